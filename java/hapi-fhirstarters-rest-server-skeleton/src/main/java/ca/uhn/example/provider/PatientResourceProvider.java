@@ -4,6 +4,7 @@ import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.parser.DataFormatException;
 import ca.uhn.fhir.rest.annotation.*;
 import ca.uhn.fhir.rest.api.MethodOutcome;
+import ca.uhn.fhir.rest.param.StringParam;
 import ca.uhn.fhir.rest.server.IResourceProvider;
 import ca.uhn.fhir.rest.server.exceptions.InvalidRequestException;
 import ca.uhn.fhir.rest.server.exceptions.ResourceNotFoundException;
@@ -12,29 +13,44 @@ import org.hl7.fhir.dstu3.model.Enumerations.AdministrativeGender;
 import org.hl7.fhir.dstu3.model.*;
 import org.hl7.fhir.dstu3.model.OperationOutcome.IssueSeverity;
 
+import java.text.Normalizer;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This is a resource provider which stores Patient resources in memory using a HashMap. This is obviously not a production-ready solution for many reasons,
+ * This is a resource provider which stores Patient resources in memory using a ConcurrentHashMap. This is obviously not a production-ready solution for many reasons,
  * but it is useful to help illustrate how to build a fully-functional server.
+ * <p>
+ * The server handles requests on many threads at once, so the store is safe to use concurrently: the versions of a resource are kept in an
+ * immutable list that is replaced as a whole when a version is added. Reads never wait for writers, they see either the old or the new list.
+ * </p>
  */
 public class PatientResourceProvider implements IResourceProvider {
 
    /**
-    * This map has a resource ID as a key, and each key maps to a Deque list containing all versions of the resource with that ID.
+    * This map has a resource ID as a key, and each key maps to an unmodifiable list containing all versions of the resource with that ID, oldest first.
     */
-   private Map<Long, Deque<Patient>> myIdToPatientVersions = new HashMap<Long, Deque<Patient>>();
+   private final ConcurrentHashMap<Long, List<Patient>> myIdToPatientVersions = new ConcurrentHashMap<Long, List<Patient>>();
+
+   /**
+    * This map is an index from the normalized family names of the latest version of each resource to the IDs of the resources, so a search by
+    * family name only looks at the resources that can match. The names are sorted, so all names starting with the searched name are next to each other.
+    * Like the versions, the set of IDs of a name is unmodifiable and replaced as a whole, and a name is removed once no resource has it.
+    */
+   private final ConcurrentSkipListMap<String, Set<Long>> myFamilyToPatientIds = new ConcurrentSkipListMap<String, Set<Long>>();
 
    /**
     * This is used to generate new IDs
     */
-   private long myNextId = 1;
+   private final AtomicLong myNextId = new AtomicLong(1);
 
    /**
     * Constructor, which pre-populates the provider with one resource instance.
     */
    public PatientResourceProvider() {
-      long resourceId = myNextId++;
+      long resourceId = myNextId.getAndIncrement();
 
       Patient patient = new Patient();
       patient.setId(Long.toString(resourceId));
@@ -45,11 +61,7 @@ public class PatientResourceProvider implements IResourceProvider {
       patient.getName().get(0).addGiven("PatientOne");
       patient.setGender(AdministrativeGender.FEMALE);
 
-      LinkedList<Patient> list = new LinkedList<>();
-      list.add(patient);
-
-
-      myIdToPatientVersions.put(resourceId, list);
+      addNewVersion(patient, resourceId);
 
    }
 
@@ -60,22 +72,107 @@ public class PatientResourceProvider implements IResourceProvider {
     * @param theId      The ID of the patient to retrieve
     */
    private void addNewVersion(Patient thePatient, Long theId) {
-      if (!myIdToPatientVersions.containsKey(theId)) {
-         myIdToPatientVersions.put(theId, new LinkedList<>());
+      myIdToPatientVersions.compute(theId, (id, existingVersions) -> withNewVersion(existingVersions, thePatient, id));
+   }
+
+   /**
+    * Returns a copy of the versions with the patient added as the next version. This runs inside {@link ConcurrentHashMap#compute}, which
+    * adds the versions of one resource one at a time, so two updates can never get the same version number.
+    *
+    * @param theExistingVersions The versions stored so far, or null if there are none
+    */
+   private List<Patient> withNewVersion(List<Patient> theExistingVersions, Patient thePatient, Long theId) {
+      List<Patient> versions = new ArrayList<Patient>();
+      Set<String> oldFamilies = Collections.emptySet();
+      if (theExistingVersions != null) {
+         versions.addAll(theExistingVersions);
+         oldFamilies = getNormalizedFamilies(getLatest(theExistingVersions));
       }
 
       thePatient.getMeta().setLastUpdatedElement(InstantType.withCurrentTime());
 
-      Deque<Patient> existingVersions = myIdToPatientVersions.get(theId);
-
       // We just use the current number of versions as the next version number
-      String newVersion = Integer.toString(existingVersions.size());
+      String newVersion = Integer.toString(versions.size());
 
       // Create an ID with the new version and assign it back to the resource
       IdType newId = new IdType("Patient", Long.toString(theId), newVersion);
       thePatient.setId(newId);
 
-      existingVersions.add(thePatient);
+      versions.add(thePatient);
+
+      /*
+       * Index the family names of the new version before it is published. A search that sees the index change first checks every
+       * resource it finds against its latest version, so it never returns a resource that does not match.
+       */
+      Set<String> newFamilies = getNormalizedFamilies(thePatient);
+      for (String nextFamily : newFamilies) {
+         myFamilyToPatientIds.merge(nextFamily, Collections.singleton(theId), (ids, added) -> withIds(ids, added, true));
+      }
+      for (String nextFamily : oldFamilies) {
+         if (!newFamilies.contains(nextFamily)) {
+            myFamilyToPatientIds.computeIfPresent(nextFamily, (family, ids) -> {
+               Set<Long> remaining = withIds(ids, Collections.singleton(theId), false);
+               return remaining.isEmpty() ? null : remaining;
+            });
+         }
+      }
+
+      return Collections.unmodifiableList(versions);
+   }
+
+   /**
+    * Returns a copy of the IDs of a name in the index with some IDs added or removed. The sets in the index are never changed in place:
+    * {@link ConcurrentSkipListMap} may apply a change again when another resource changed the same name first, and removes a name only
+    * if its set is still the one that was found empty.
+    */
+   private static Set<Long> withIds(Set<Long> theIds, Set<Long> theChangedIds, boolean theAdd) {
+      Set<Long> retVal = new HashSet<Long>(theIds);
+      if (theAdd) {
+         retVal.addAll(theChangedIds);
+      } else {
+         retVal.removeAll(theChangedIds);
+      }
+      return Collections.unmodifiableSet(retVal);
+   }
+
+   /**
+    * Normalizes a name for matching, the way FHIR string search does: case and accents are ignored.
+    */
+   private static String normalize(String theName) {
+      String decomposed = Normalizer.normalize(theName, Normalizer.Form.NFD);
+      return decomposed.replaceAll("\\p{M}", "").toLowerCase(Locale.ROOT);
+   }
+
+   private static Set<String> getNormalizedFamilies(Patient thePatient) {
+      Set<String> retVal = new HashSet<String>();
+      for (HumanName nextName : thePatient.getName()) {
+         if (nextName.getFamily() != null) {
+            retVal.add(normalize(nextName.getFamily()));
+         }
+      }
+      return retVal;
+   }
+
+   /**
+    * @return true if the family name matches the search, with the same rules the index is searched with
+    */
+   private static boolean matches(StringParam theFamilyName, String theFamily) {
+      if (theFamily == null) {
+         return false;
+      }
+      if (theFamilyName.isExact()) {
+         return theFamily.equals(theFamilyName.getValue());
+      }
+      String family = normalize(theFamily);
+      String searched = normalize(theFamilyName.getValue());
+      return theFamilyName.isContains() ? family.contains(searched) : family.startsWith(searched);
+   }
+
+   /**
+    * @return the latest version of a resource
+    */
+   private static Patient getLatest(List<Patient> theVersions) {
+      return theVersions.get(theVersions.size() - 1);
    }
 
    /**
@@ -86,8 +183,8 @@ public class PatientResourceProvider implements IResourceProvider {
    public MethodOutcome createPatient(@ResourceParam Patient thePatient) {
       validateResource(thePatient);
 
-      // Here we are just generating IDs sequentially
-      long id = myNextId++;
+      // Here we are just generating IDs sequentially, each ID is handed out once even if many patients are created at the same time
+      long id = myNextId.getAndIncrement();
 
       addNewVersion(thePatient, id);
 
@@ -100,22 +197,57 @@ public class PatientResourceProvider implements IResourceProvider {
     * This example searches by family name.
     *
     * @param theFamilyName This operation takes one parameter which is the search criteria. It is annotated with the "@Required" annotation. This annotation takes one argument, a string containing the name of
-    *                      the search criteria. The datatype here is StringDt, but there are other possible parameter types depending on the specific search criteria.
+    *                      the search criteria. The datatype here is StringParam, which also carries the :exact and :contains modifiers. Without a modifier,
+    *                      a family name matches if it starts with the value, ignoring case and accents.
     * @return This method returns a list of Patients. This list may contain multiple matching resources, or it may also be empty.
     */
    @Search()
-   public List<Patient> findPatientsByName(@RequiredParam(name = Patient.SP_FAMILY) StringType theFamilyName) {
+   public List<Patient> findPatientsByName(@RequiredParam(name = Patient.SP_FAMILY) StringParam theFamilyName) {
       LinkedList<Patient> retVal = new LinkedList<Patient>();
 
       /*
-       * Look for all patients matching the name
+       * Collect the IDs of the patients with a matching family name from the index. A name starting with the searched name is found with a
+       * range of the sorted index, a name containing it by looking at each distinct name, which are far fewer than the patients.
        */
-      for (Deque<Patient> nextPatientList : myIdToPatientVersions.values()) {
-         Patient nextPatient = nextPatientList.getLast();
+      String searched = normalize(theFamilyName.getValue());
+      Map<String, Set<Long>> candidates;
+      if (theFamilyName.isContains()) {
+         candidates = new HashMap<String, Set<Long>>();
+         for (Map.Entry<String, Set<Long>> nextEntry : myFamilyToPatientIds.entrySet()) {
+            if (nextEntry.getKey().contains(searched)) {
+               candidates.put(nextEntry.getKey(), nextEntry.getValue());
+            }
+         }
+      } else if (theFamilyName.isExact()) {
+         candidates = myFamilyToPatientIds.subMap(searched, true, searched, true);
+      } else {
+         // In sorted order, the names starting with the searched name come right after it, so the first name that does not ends the range
+         candidates = new HashMap<String, Set<Long>>();
+         for (Map.Entry<String, Set<Long>> nextEntry : myFamilyToPatientIds.tailMap(searched).entrySet()) {
+            if (!nextEntry.getKey().startsWith(searched)) {
+               break;
+            }
+            candidates.put(nextEntry.getKey(), nextEntry.getValue());
+         }
+      }
+      Set<Long> ids = new TreeSet<Long>();
+      for (Set<Long> nextIds : candidates.values()) {
+         ids.addAll(nextIds);
+      }
+
+      /*
+       * Look for the patients matching the name among them
+       */
+      for (Long nextId : ids) {
+         List<Patient> nextPatientList = myIdToPatientVersions.get(nextId);
+         if (nextPatientList == null) {
+            continue;
+         }
+         Patient nextPatient = getLatest(nextPatientList);
          NAMELOOP:
          for (HumanName nextName : nextPatient.getName()) {
             String nextFamily = nextName.getFamily();
-            if (theFamilyName.equals(nextFamily)) {
+            if (matches(theFamilyName, nextFamily)) {
                retVal.add(nextPatient);
                break NAMELOOP;
             }
@@ -129,8 +261,8 @@ public class PatientResourceProvider implements IResourceProvider {
    public List<Patient> findPatientsUsingArbitraryCtriteria() {
       LinkedList<Patient> retVal = new LinkedList<Patient>();
 
-      for (Deque<Patient> nextPatientList : myIdToPatientVersions.values()) {
-         Patient nextPatient = nextPatientList.getLast();
+      for (List<Patient> nextPatientList : myIdToPatientVersions.values()) {
+         Patient nextPatient = getLatest(nextPatientList);
          retVal.add(nextPatient);
       }
 
@@ -157,7 +289,7 @@ public class PatientResourceProvider implements IResourceProvider {
     */
    @Read(version = true)
    public Patient readPatient(@IdParam IdType theId) {
-      Deque<Patient> retVal;
+      List<Patient> retVal;
       try {
          retVal = myIdToPatientVersions.get(theId.getIdPartAsLong());
       } catch (NumberFormatException e) {
@@ -166,9 +298,12 @@ public class PatientResourceProvider implements IResourceProvider {
           */
          throw new ResourceNotFoundException(theId);
       }
+      if (retVal == null) {
+         throw new ResourceNotFoundException(theId);
+      }
 
       if (theId.hasVersionIdPart() == false) {
-         return retVal.getLast();
+         return getLatest(retVal);
       } else {
          for (Patient nextVersion : retVal) {
             String nextVersionId = nextVersion.getIdElement().getVersionIdPart();
@@ -202,14 +337,13 @@ public class PatientResourceProvider implements IResourceProvider {
       }
 
       /*
-       * Throw an exception (HTTP 404) if the ID is not known
+       * Throw an exception (HTTP 404) if the ID is not known. The check and the new version are one step, so a patient is
+       * never updated into existence.
        */
-      if (!myIdToPatientVersions.containsKey(id)) {
+      if (myIdToPatientVersions.computeIfPresent(id, (nextId, existingVersions) -> withNewVersion(existingVersions, thePatient, nextId)) == null) {
          throw new ResourceNotFoundException(theId);
       }
 
-      addNewVersion(thePatient, id);
-
       return new MethodOutcome();
    }
 
@@ -0,0 +1,238 @@
+package ca.uhn.example.provider;
+
+import ca.uhn.fhir.rest.param.StringParam;
+import org.hl7.fhir.dstu3.model.HumanName;
+import org.hl7.fhir.dstu3.model.IdType;
+import org.hl7.fhir.dstu3.model.Patient;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PatientResourceProviderTest {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(PatientResourceProviderTest.class);
+
+   private static final int THREADS = 8;
+   private static final int ROUNDS = 2000;
+   private static final int SEARCHES = 200;
+
+   /**
+    * Creates, updates and reads patients from many threads at once. Every thread also updates the patient the provider starts with, so
+    * its versions are added by all threads at the same time.
+    */
+   @Test(timeout = 60000)
+   public void testConcurrentCreateUpdateRead() throws Exception {
+      PatientResourceProvider provider = new PatientResourceProvider();
+      IdType sharedId = new IdType("Patient", "1");
+
+      ExecutorService threads = Executors.newFixedThreadPool(THREADS);
+      long start = System.nanoTime();
+      try {
+         List<Future<List<Long>>> results = new ArrayList<Future<List<Long>>>();
+         for (int i = 0; i < THREADS; i++) {
+            String family = "Stress" + i;
+            results.add(threads.submit(() -> {
+               List<Long> created = new ArrayList<Long>();
+               long lastSharedVersion = -1;
+               for (int round = 0; round < ROUNDS; round++) {
+                  long id = provider.createPatient(newPatient(family)).getId().getIdPartAsLong();
+                  created.add(id);
+
+                  IdType createdId = new IdType("Patient", Long.toString(id));
+                  provider.updatePatient(createdId, newPatient(family + "Updated"));
+                  Patient latest = provider.readPatient(createdId);
+                  assertEquals("1", latest.getIdElement().getVersionIdPart());
+                  assertEquals(family + "Updated", latest.getNameFirstRep().getFamily());
+                  assertEquals(family, provider.readPatient(createdId.withVersion("0")).getNameFirstRep().getFamily());
+
+                  provider.updatePatient(sharedId, newPatient("Shared"));
+                  // other threads may have added versions since, but never take one away
+                  long sharedVersion = provider.readPatient(sharedId).getIdElement().getVersionIdPartAsLong();
+                  assertTrue(sharedVersion > lastSharedVersion);
+                  lastSharedVersion = sharedVersion;
+               }
+               return created;
+            }));
+         }
+
+         Set<Long> createdIds = new HashSet<Long>();
+         for (Future<List<Long>> next : results) {
+            createdIds.addAll(next.get());
+         }
+         // no ID was handed out twice
+         assertEquals(THREADS * ROUNDS, createdIds.size());
+         assertFalse(createdIds.contains(1L));
+      } finally {
+         threads.shutdown();
+         threads.awaitTermination(10, TimeUnit.SECONDS);
+      }
+      long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      // a create, two updates and three reads per round
+      ourLog.info("{} requests on {} threads in {} ms, {} requests/s", THREADS * ROUNDS * 6, THREADS, millis, THREADS * ROUNDS * 6 * 1000L / Math.max(millis, 1));
+
+      // no update of the shared patient was lost, and its versions are numbered one after the other
+      int sharedUpdates = THREADS * ROUNDS;
+      assertEquals(Integer.toString(sharedUpdates), provider.readPatient(sharedId).getIdElement().getVersionIdPart());
+      for (int version = 0; version <= sharedUpdates; version++) {
+         assertEquals(Integer.toString(version), provider.readPatient(sharedId.withVersion(Integer.toString(version))).getIdElement().getVersionIdPart());
+      }
+
+      assertEquals(THREADS * ROUNDS + 1, provider.findPatientsUsingArbitraryCtriteria().size());
+   }
+
+   @Test
+   public void testSearchByPrefixFindsNamesAfterLastCharacter() {
+      PatientResourceProvider provider = new PatientResourceProvider();
+      provider.createPatient(newPatient("ab\uFFFF"));
+      provider.createPatient(newPatient("ab\uFFFFc"));
+      provider.createPatient(newPatient("ac"));
+
+      assertEquals(2, provider.findPatientsByName(new StringParam("ab")).size());
+      assertEquals(2, provider.findPatientsByName(new StringParam("ab\uFFFF")).size());
+   }
+
+   @Test
+   public void testSearchDropsNamesNoLongerUsed() {
+      PatientResourceProvider provider = new PatientResourceProvider();
+      IdType id = new IdType("Patient", provider.createPatient(newPatient("Smith")).getId().getIdPart());
+      provider.updatePatient(id, newPatient("Jones"));
+
+      assertEquals(0, provider.findPatientsByName(new StringParam("smi")).size());
+      assertEquals(1, provider.findPatientsByName(new StringParam("jon")).size());
+      provider.updatePatient(id, newPatient("Smithson"));
+      assertEquals(1, provider.findPatientsByName(new StringParam("smi")).size());
+   }
+
+   /**
+    * The index of family names finds the same patients as looking at every patient, for whole family names and prefixes.
+    */
+   @Test
+   public void testSearchMatchesScan() {
+      Random random = new Random(1);
+      List<String> families = newFamilies(random, 200);
+      PatientResourceProvider provider = newProvider(random, families, 2000);
+      for (StringParam nextSearch : newSearches(random, families)) {
+         assertEquals(nextSearch.getValue(), getIds(scanByName(provider, nextSearch.getValue())), getIds(provider.findPatientsByName(nextSearch)));
+      }
+   }
+
+   /**
+    * Compares the time a search takes using the index of family names with a search looking at every patient, as the provider used to.
+    * Only runs with the numbers of patients given in -Dpatient.benchmark.sizes, e.g. 10000,100000,1000000 (a million needs a few GB
+    * of heap).
+    */
+   @Test
+   public void testSearchBenchmark() {
+      String sizes = System.getProperty("patient.benchmark.sizes");
+      Assume.assumeNotNull(sizes);
+      for (String nextSize : sizes.split(",")) {
+         benchmarkSearch(Integer.parseInt(nextSize.trim()));
+      }
+   }
+
+   private void benchmarkSearch(int thePatients) {
+      // about ten patients per family name
+      Random random = new Random(thePatients);
+      List<String> families = newFamilies(random, thePatients / 10);
+      PatientResourceProvider provider = newProvider(random, families, thePatients);
+      List<StringParam> searches = newSearches(random, families);
+
+      long indexNanos = 0;
+      long scanNanos = 0;
+      for (StringParam nextSearch : searches) {
+         long start = System.nanoTime();
+         List<Patient> found = provider.findPatientsByName(nextSearch);
+         indexNanos += System.nanoTime() - start;
+
+         start = System.nanoTime();
+         List<Patient> scanned = scanByName(provider, nextSearch.getValue());
+         scanNanos += System.nanoTime() - start;
+
+         assertEquals(getIds(scanned), getIds(found));
+      }
+      ourLog.info("{} patients: search by family name takes {} us with the index, {} us looking at every patient", thePatients,
+         indexNanos / SEARCHES / 1000, scanNanos / SEARCHES / 1000);
+   }
+
+   private static List<String> newFamilies(Random theRandom, int theCount) {
+      List<String> retVal = new ArrayList<String>();
+      for (int i = 0; i < theCount; i++) {
+         retVal.add(randomName(theRandom));
+      }
+      return retVal;
+   }
+
+   private static PatientResourceProvider newProvider(Random theRandom, List<String> theFamilies, int thePatients) {
+      PatientResourceProvider retVal = new PatientResourceProvider();
+      for (int i = 0; i < thePatients; i++) {
+         retVal.createPatient(newPatient(theFamilies.get(theRandom.nextInt(theFamilies.size()))));
+      }
+      return retVal;
+   }
+
+   // whole family names and three letter prefixes, half each
+   private static List<StringParam> newSearches(Random theRandom, List<String> theFamilies) {
+      List<StringParam> retVal = new ArrayList<StringParam>();
+      for (int i = 0; i < SEARCHES; i++) {
+         String family = theFamilies.get(theRandom.nextInt(theFamilies.size()));
+         retVal.add(new StringParam(i % 2 == 0 ? family : family.substring(0, 3)));
+      }
+      return retVal;
+   }
+
+   // The search as it was before the index: the family names of the latest version of every patient
+   private static List<Patient> scanByName(PatientResourceProvider theProvider, String theFamily) {
+      String searched = theFamily.toLowerCase(Locale.ROOT);
+      List<Patient> retVal = new ArrayList<Patient>();
+      for (Patient nextPatient : theProvider.findPatientsUsingArbitraryCtriteria()) {
+         for (HumanName nextName : nextPatient.getName()) {
+            if (nextName.getFamily() != null && nextName.getFamily().toLowerCase(Locale.ROOT).startsWith(searched)) {
+               retVal.add(nextPatient);
+               break;
+            }
+         }
+      }
+      return retVal;
+   }
+
+   private static Set<String> getIds(List<Patient> thePatients) {
+      Set<String> retVal = new TreeSet<String>();
+      for (Patient nextPatient : thePatients) {
+         retVal.add(nextPatient.getIdElement().getIdPart());
+      }
+      return retVal;
+   }
+
+   private static String randomName(Random theRandom) {
+      StringBuilder retVal = new StringBuilder();
+      retVal.append((char) ('A' + theRandom.nextInt(26)));
+      for (int i = 0; i < 7; i++) {
+         retVal.append((char) ('a' + theRandom.nextInt(26)));
+      }
+      return retVal.toString();
+   }
+
+   private static Patient newPatient(String theFamily) {
+      Patient retVal = new Patient();
+      retVal.addName().setFamily(theFamily).addGiven("Test");
+      return retVal;
+   }
+
+}
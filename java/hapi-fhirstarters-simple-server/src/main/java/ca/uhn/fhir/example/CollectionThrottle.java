@@ -0,0 +1,107 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.server.exceptions.InternalErrorException;
+import com.google.api.core.ApiFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of Firestore reads in flight per collection. When requests run on virtual
+ * threads there is no thread pool limiting concurrency any more, so this is what keeps a burst
+ * of requests from overrunning the Firestore quota.
+ *
+ * Start the server with -Dfirestore.maxConcurrentReads=N to change the limit per collection.
+ *
+ * Waiting for a slot blocks, so slots are only ever taken on the thread that starts a read, e.g.
+ * the request thread, and never in a callback of a Firestore future. Those callbacks run on the
+ * Firestore client's own threads, and blocking them can hold up the very reads whose slots are
+ * being waited for. A read that has to follow another one, e.g. a fallback query, runs in the slot
+ * its caller already holds.
+ */
+public class CollectionThrottle {
+
+   public static final int DEFAULT_MAX_CONCURRENT_READS = 64;
+   public static final long ACQUIRE_TIMEOUT_SECONDS = 30;
+
+   private static final int ourPermits = Integer.getInteger("firestore.maxConcurrentReads", DEFAULT_MAX_CONCURRENT_READS);
+   private static final ConcurrentHashMap<String, Semaphore> ourSemaphores = new ConcurrentHashMap<String, Semaphore>();
+
+   /**
+    * @return the most reads of one collection that are in flight at once
+    */
+   public static int getMaxConcurrentReads() {
+      return ourPermits;
+   }
+
+   /**
+    * Waits for a read slot on the collection, starts the read and gives the slot back once the
+    * read is done. Must be called on the thread that starts the read, see above.
+    *
+    * @param theRead starts the read, including any reads that follow from it
+    * @return the future of the read
+    * @throws InternalErrorException if no slot frees up within the timeout
+    */
+   public static <T> ApiFuture<T> throttle(String theCollection, Supplier<ApiFuture<T>> theRead) {
+      acquire(theCollection);
+      ApiFuture<T> read;
+      try {
+         read = theRead.get();
+      } catch (RuntimeException e) {
+         release(theCollection);
+         throw e;
+      }
+      return releaseWhenDone(theCollection, read);
+   }
+
+   /**
+    * Waits for a read slot on the collection. Every successful call must be paired with
+    * {@link #releaseWhenDone(String, ApiFuture)} or {@link #release(String)}.
+    *
+    * @throws InternalErrorException if no slot frees up within the timeout
+    */
+   public static void acquire(String theCollection) {
+      boolean acquired;
+      try {
+         acquired = getSemaphore(theCollection).tryAcquire(ACQUIRE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         acquired = false;
+      }
+      if (!acquired) {
+         throw new InternalErrorException("Too many concurrent reads of Firestore collection " + theCollection);
+      }
+   }
+
+   /**
+    * Gives the read slot acquired for the collection back once the future completes, whether
+    * it succeeds or fails.
+    *
+    * @return the same future, for chaining
+    */
+   public static <T> ApiFuture<T> releaseWhenDone(String theCollection, ApiFuture<T> theFuture) {
+      Semaphore semaphore = getSemaphore(theCollection);
+      theFuture.addListener(semaphore::release, MoreExecutors.directExecutor());
+      return theFuture;
+   }
+
+   /**
+    * Gives the read slot acquired for the collection back straight away, for when the read
+    * could not be started.
+    */
+   public static void release(String theCollection) {
+      getSemaphore(theCollection).release();
+   }
+
+   private static Semaphore getSemaphore(String theCollection) {
+      Semaphore semaphore = ourSemaphores.get(theCollection);
+      if (semaphore == null) {
+         ourSemaphores.putIfAbsent(theCollection, new Semaphore(ourPermits));
+         semaphore = ourSemaphores.get(theCollection);
+      }
+      return semaphore;
+   }
+}
@@ -0,0 +1,123 @@
+package ca.uhn.fhir.example;
+
+import org.hl7.fhir.r4.model.CodeableConcept;
+import org.hl7.fhir.r4.model.Coding;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Quantity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One row of a declarative table that maps a field of a Garmin summary to an Observation
+ * component: the field name, the component code, the UCUM unit and how the value is read.
+ *
+ * The code of each row is built once, when the table is built, and is shared by every
+ * Observation mapped with the table, so it must never be modified. Only the value of a
+ * component is created per document.
+ */
+public final class ComponentMapping {
+
+   public static final String UCUM = "http://unitsofmeasure.org";
+   public static final String LOINC = "http://loinc.org";
+   public static final String MDC = "urn:iso:std:iso:11073:10101";
+   public static final String GARMIN = "https://connect.garmin.com/";
+
+   public enum ValueType {
+      /** a whole number, as a Quantity */
+      LONG,
+      /** a decimal number, as a Quantity */
+      DOUBLE,
+      /** a string, as the text of an interpretation carrying the code */
+      INTERPRETATION
+   }
+
+   private final String myField;
+   private final CodeableConcept myCode;
+   private final ValueType myValueType;
+   private final String myUnitCode;
+   private final String myUnitDisplay;
+
+   private ComponentMapping(String theField, CodeableConcept theCode, ValueType theValueType, String theUnitCode, String theUnitDisplay) {
+      myField = theField;
+      myCode = theCode;
+      myValueType = theValueType;
+      myUnitCode = theUnitCode;
+      myUnitDisplay = theUnitDisplay;
+   }
+
+   /**
+    * A numeric field mapped to a Quantity with a UCUM unit.
+    */
+   public static ComponentMapping quantity(String theField, String theSystem, String theCode, String theDisplay,
+         ValueType theValueType, String theUnitCode, String theUnitDisplay) {
+      return new ComponentMapping(theField, code(theSystem, theCode, theDisplay), theValueType, theUnitCode, theUnitDisplay);
+   }
+
+   /**
+    * A numeric field mapped to a Quantity without a unit, such as a step count.
+    */
+   public static ComponentMapping count(String theField, String theSystem, String theCode, String theDisplay, ValueType theValueType) {
+      return new ComponentMapping(theField, code(theSystem, theCode, theDisplay), theValueType, null, null);
+   }
+
+   /**
+    * A string field mapped to the text of an interpretation.
+    */
+   public static ComponentMapping interpretation(String theField, String theSystem, String theCode, String theDisplay) {
+      return new ComponentMapping(theField, code(theSystem, theCode, theDisplay), ValueType.INTERPRETATION, null, null);
+   }
+
+   /**
+    * @return the 32-bit MDC code of a reference identifier as a code string
+    */
+   public static String mdcCode(String theReferenceId) {
+      return String.valueOf(Mdc.get32BitCodeFromReferenceId(theReferenceId));
+   }
+
+   /**
+    * Adds a component for every field of the table that is present in the document, in table order.
+    * Each field is read from the document once.
+    */
+   public static void mapAll(ComponentMapping[] theTable, GarminSummary theDocument, List<Observation.ObservationComponentComponent> theComponents) {
+      for (ComponentMapping next : theTable) {
+         Object value = theDocument.get(next.myField);
+         if (value != null) {
+            theComponents.add(next.map(value));
+         }
+      }
+   }
+
+   public String getField() {
+      return myField;
+   }
+
+   private Observation.ObservationComponentComponent map(Object theValue) {
+      if (myValueType == ValueType.INTERPRETATION) {
+         CodeableConcept interpretation = myCode.copy();
+         interpretation.setText(theValue.toString());
+         Observation.ObservationComponentComponent component = new Observation.ObservationComponentComponent();
+         List<CodeableConcept> interpretations = new ArrayList<CodeableConcept>(1);
+         interpretations.add(interpretation);
+         component.setInterpretation(interpretations);
+         return component;
+      }
+
+      Number number = (Number) theValue;
+      Quantity quantity;
+      if (myUnitCode == null) {
+         quantity = (myValueType == ValueType.LONG) ? new Quantity(number.longValue()) : new Quantity(number.doubleValue());
+      } else if (myValueType == ValueType.LONG) {
+         quantity = new Quantity(null, number.longValue(), UCUM, myUnitCode, myUnitDisplay);
+      } else {
+         quantity = new Quantity(null, number.doubleValue(), UCUM, myUnitCode, myUnitDisplay);
+      }
+      Observation.ObservationComponentComponent component = new Observation.ObservationComponentComponent(myCode);
+      component.setValue(quantity);
+      return component;
+   }
+
+   private static CodeableConcept code(String theSystem, String theCode, String theDisplay) {
+      return new CodeableConcept(new Coding(theSystem, theCode, theDisplay));
+   }
+}
@@ -1,5 +1,4 @@
 package ca.uhn.fhir.example;
-import ca.uhn.fhir.example.Helper;
 
 import ca.uhn.fhir.rest.annotation.IdParam;
 import ca.uhn.fhir.rest.annotation.Read;
@@ -13,38 +12,18 @@ import org.hl7.fhir.r4.model.Device.DeviceDeviceNameComponent;
 import org.hl7.fhir.r4.model.Device.DeviceNameType;
 import org.hl7.fhir.r4.model.StringType;
 import org.hl7.fhir.r4.model.Enumeration;
-import org.hl7.fhir.instance.model.api.IBaseEnumFactory;
 import org.hl7.fhir.r4.model.Device.DeviceNameTypeEnumFactory;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.Firestore;
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-
-import com.google.firebase.cloud.FirestoreClient;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
-import com.google.common.collect.ImmutableMap;
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Query;
-import com.google.cloud.firestore.CollectionReference;
-
-import java.util.HashMap;
 import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.io.*;
-import java.time.LocalDate;
 
 public class DeviceResourceProvider implements IResourceProvider {
 
-    private Map<String, Device> myDevices = new HashMap<String, Device>();
-    private Firestore db;
+    private ResourceCache<Device> myDevices = new ResourceCache<Device>();
+    private GarminSummaryStore myStore;
  
-    public DeviceResourceProvider(Firestore _db) {
-       db = _db;
+    public DeviceResourceProvider(GarminSummaryStore theStore) {
+       myStore = theStore;
     }
  
     @Override
@@ -0,0 +1,307 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.interceptor.api.Hook;
+import ca.uhn.fhir.interceptor.api.Interceptor;
+import ca.uhn.fhir.interceptor.api.Pointcut;
+import ca.uhn.fhir.parser.IParser;
+import ca.uhn.fhir.rest.api.Constants;
+import ca.uhn.fhir.rest.api.RequestTypeEnum;
+import ca.uhn.fhir.rest.api.RestOperationTypeEnum;
+import ca.uhn.fhir.rest.api.server.IRestfulResponse;
+import ca.uhn.fhir.rest.api.server.RequestDetails;
+import ca.uhn.fhir.rest.api.server.ResponseDetails;
+import ca.uhn.fhir.rest.server.ETagSupportEnum;
+import ca.uhn.fhir.rest.server.RestfulResponse;
+import ca.uhn.fhir.rest.server.RestfulServerUtils;
+import ca.uhn.fhir.rest.server.servlet.ServletRequestDetails;
+import ca.uhn.fhir.util.DateUtils;
+import org.hl7.fhir.instance.model.api.IBaseResource;
+import org.hl7.fhir.instance.model.api.IIdType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the encoded bytes of the resources read by ID, so a resource that is read again is not
+ * encoded again. Garmin summaries do not change once written, and encoding a large Observation,
+ * e.g. one of g_daily with its SampledData, costs much more than finding it in the providers'
+ * caches.
+ *
+ * The read itself still goes through the providers, which answer conditional reads with 304, and
+ * through every interceptor that checks the response, e.g. an AuthorizationInterceptor: the
+ * cache only takes over the last step, the encoding. It runs after the other interceptors of the
+ * outgoing response and copies the kept UTF-8 bytes straight to the servlet's output stream, with
+ * the Content-Location and Last-Modified headers the server would send and any header another
+ * interceptor added. A gzipped response is compressed once per encoding as well.
+ *
+ * The ETag of a cached response is strong, the version followed by a hash of the bytes, since the
+ * same bytes are sent every time. {@link Helper#isNotModified} matches it by the version, so a
+ * client sending it back gets 304 from the provider before anything is read.
+ *
+ * A resource is encoded differently depending on the request, so an encoding is kept per
+ * variant: the encoding and content type, _pretty, _summary and _elements. Variants are also
+ * kept per version of the resource, so a new version is never answered with an old encoding.
+ * Requests that ResponseHighlighterInterceptor answers with HTML are left to it.
+ *
+ * The cache is entered with the resource ID, so {@link #invalidate} drops every variant of a
+ * resource at once, e.g. when {@link SummaryIngester} writes its summary again.
+ */
+@Interceptor
+public class EncodedResponseCache {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(EncodedResponseCache.class);
+
+   public static final long DEFAULT_MAXIMUM_SIZE = 1000;
+
+   /**
+    * The order of the hook, after the interceptors that check or change the response, which
+    * use the default order of 0.
+    */
+   public static final int ORDER = 1000;
+
+   private static final Set<String> CACHED_TYPES = Collections.unmodifiableSet(new HashSet<String>(Arrays.asList("Observation", "Procedure")));
+
+   private final FhirContext myFhirContext;
+   // Type/idPart -> variant -> encoded resource
+   private final ResourceCache<ConcurrentHashMap<String, Encoded>> myEncodings;
+   private final AtomicLong myHits = new AtomicLong();
+   private final AtomicLong myMisses = new AtomicLong();
+   private final AtomicLong myEncodeNanos = new AtomicLong();
+
+   /**
+    * @param theMaximumSize       the number of resources whose encodings are kept
+    * @param theTimeToLiveSeconds how long the encodings of a resource are kept, which should not
+    *                             be longer than the providers keep the resource itself
+    */
+   public EncodedResponseCache(FhirContext theFhirContext, long theMaximumSize, long theTimeToLiveSeconds) {
+      myFhirContext = theFhirContext;
+      myEncodings = new ResourceCache<ConcurrentHashMap<String, Encoded>>(theMaximumSize, theTimeToLiveSeconds);
+   }
+
+   /**
+    * Writes the resource that was read with the encoding kept for it, encoding and keeping it
+    * first if this is the first time it is read this way.
+    *
+    * @return false if the response was written, so the server does not write it again
+    */
+   @Hook(value = Pointcut.SERVER_OUTGOING_RESPONSE, order = ORDER)
+   public boolean writeEncoded(RequestDetails theRequestDetails, ResponseDetails theResponseDetails) throws IOException {
+      String resourceKey = getResourceKey(theRequestDetails);
+      IBaseResource resource = theResponseDetails.getResponseResource();
+      if (resourceKey == null || resource == null || theResponseDetails.getResponseCode() != Constants.STATUS_HTTP_200_OK
+         || !(theRequestDetails instanceof ServletRequestDetails)) {
+         return true;
+      }
+      String version = resource.getIdElement().getVersionIdPart();
+      if (version == null) {
+         version = resource.getMeta().getVersionId();
+      }
+      if (version == null) {
+         // nothing tells this resource apart from a later one with the same ID
+         return true;
+      }
+
+      ConcurrentHashMap<String, Encoded> variants = myEncodings.get(resourceKey, ConcurrentHashMap::new);
+      String variantKey = getVariantKey(theRequestDetails, version);
+      Encoded encoded = variants.get(variantKey);
+      if (encoded == null) {
+         long start = System.nanoTime();
+         IParser parser = RestfulServerUtils.getNewParser(myFhirContext, myFhirContext.getVersion().getVersion(), theRequestDetails);
+         byte[] bytes = parser.encodeResourceToString(resource).getBytes(StandardCharsets.UTF_8);
+         myEncodeNanos.addAndGet(System.nanoTime() - start);
+         myMisses.incrementAndGet();
+         encoded = new Encoded(version, bytes);
+         variants.put(variantKey, encoded);
+      } else {
+         long hits = myHits.incrementAndGet();
+         if (hits % 1000 == 0) {
+            ourLog.info("{}", this);
+         }
+      }
+
+      write((ServletRequestDetails) theRequestDetails, resource, version, encoded);
+      return false;
+   }
+
+   /**
+    * Drops every encoding of a resource.
+    *
+    * @param theResourceType e.g. Observation
+    * @param theIdPart       the ID of the resource, without type or version
+    */
+   public void invalidate(String theResourceType, String theIdPart) {
+      myEncodings.invalidate(theResourceType + "/" + theIdPart);
+   }
+
+   /**
+    * @return the average time in microseconds spent encoding a resource that was not cached yet,
+    *         which is what every hit saves, or 0 before the first one
+    */
+   public long getAverageEncodeMicros() {
+      long misses = myMisses.get();
+      return misses == 0 ? 0 : myEncodeNanos.get() / misses / 1000;
+   }
+
+   @Override
+   public String toString() {
+      return "Encoded responses: " + myHits.get() + " hits, " + myMisses.get() + " misses, ~"
+         + getAverageEncodeMicros() + " us of encoding saved per hit";
+   }
+
+   // Type/idPart of a plain GET read of a cached type, or null if the response is not cached
+   private static String getResourceKey(RequestDetails theRequestDetails) {
+      if (theRequestDetails.getRequestType() != RequestTypeEnum.GET
+         || (theRequestDetails.getRestOperationType() != RestOperationTypeEnum.READ && theRequestDetails.getRestOperationType() != RestOperationTypeEnum.VREAD)
+         || !CACHED_TYPES.contains(theRequestDetails.getResourceName())
+         || theRequestDetails.getId() == null
+         || isHtml(theRequestDetails)) {
+         return null;
+      }
+      return theRequestDetails.getResourceName() + "/" + theRequestDetails.getId().getIdPart();
+   }
+
+   // Everything that changes the encoding of a resource, and the version of the resource
+   private static String getVariantKey(RequestDetails theRequestDetails, String theVersion) {
+      StringBuilder retVal = new StringBuilder(getContentType(theRequestDetails));
+      retVal.append('|').append(theVersion);
+      retVal.append('|').append(RestfulServerUtils.prettyPrintResponse(theRequestDetails.getServer(), theRequestDetails));
+      for (String next : new String[] {Constants.PARAM_SUMMARY, Constants.PARAM_ELEMENTS, Constants.PARAM_ELEMENTS + Constants.PARAM_ELEMENTS_EXCLUDE_MODIFIER}) {
+         String[] values = theRequestDetails.getParameters().get(next);
+         retVal.append('|');
+         if (values != null) {
+            retVal.append(String.join(",", values));
+         }
+      }
+      return retVal.toString();
+   }
+
+   private static String getContentType(RequestDetails theRequestDetails) {
+      return RestfulServerUtils.determineResponseEncodingWithDefault(theRequestDetails).getResourceContentType();
+   }
+
+   // Like ResponseHighlighterInterceptor: an explicit _format decides, otherwise a browser asking
+   // for text/html gets HTML
+   private static boolean isHtml(RequestDetails theRequestDetails) {
+      String[] format = theRequestDetails.getParameters().get(Constants.PARAM_FORMAT);
+      if (format != null && format.length > 0) {
+         for (String next : format) {
+            if (next.contains("html")) {
+               return true;
+            }
+         }
+         return false;
+      }
+      String accept = theRequestDetails.getHeader(Constants.HEADER_ACCEPT);
+      return accept != null && accept.contains(Constants.CT_HTML);
+   }
+
+   // Writes the response the way ServletRestfulResponse writes a read, with the headers the server
+   // and the other interceptors added to it, but the bytes as they were kept
+   private void write(ServletRequestDetails theRequestDetails, IBaseResource theResource, String theVersion, Encoded theEncoded) throws IOException {
+      HttpServletResponse response = theRequestDetails.getServletResponse();
+      theRequestDetails.getServer().addHeadersToResponse(response);
+      IRestfulResponse restfulResponse = theRequestDetails.getResponse();
+      if (restfulResponse instanceof RestfulResponse) {
+         for (Map.Entry<String, List<String>> next : ((RestfulResponse<?>) restfulResponse).getHeaders().entrySet()) {
+            for (String value : next.getValue()) {
+               response.addHeader(next.getKey(), value);
+            }
+         }
+      }
+
+      IIdType fullId = theResource.getIdElement()
+         .withServerBase(theRequestDetails.getFhirServerBase(), myFhirContext.getResourceDefinition(theResource).getName())
+         .withVersion(theVersion);
+      response.addHeader(Constants.HEADER_CONTENT_LOCATION, fullId.getValue());
+      if (theRequestDetails.getServer().getETagSupport() == ETagSupportEnum.ENABLED) {
+         response.addHeader(Constants.HEADER_ETAG, theEncoded.myETag);
+      }
+      Date lastUpdated = theResource.getMeta().getLastUpdated();
+      if (lastUpdated != null) {
+         response.addHeader(Constants.HEADER_LAST_MODIFIED, DateUtils.formatDate(lastUpdated));
+      }
+
+      byte[] body = theEncoded.myBytes;
+      if (theRequestDetails.isRespondGzip()) {
+         response.addHeader(Constants.HEADER_CONTENT_ENCODING, Constants.ENCODING_GZIP);
+         body = theEncoded.getGzipped();
+      }
+      response.setStatus(Constants.STATUS_HTTP_200_OK);
+      response.setContentType(getContentType(theRequestDetails));
+      response.setCharacterEncoding(Constants.CHARSET_NAME_UTF8);
+      response.setContentLength(body.length);
+      try (OutputStream out = response.getOutputStream()) {
+         out.write(body);
+      }
+   }
+
+   /**
+    * One encoding of a resource as it is sent: the UTF-8 bytes, compressed the first time a client
+    * asks for gzip, and a strong ETag made from the version and a hash of the bytes.
+    */
+   static final class Encoded {
+      private final byte[] myBytes;
+      private final String myETag;
+      // written at most a few times at once, each time with the same bytes
+      private volatile byte[] myGzipped;
+
+      Encoded(String theVersion, byte[] theBytes) {
+         myBytes = theBytes;
+         myETag = "\"" + theVersion + "-" + hash(theBytes) + "\"";
+      }
+
+      byte[] getBytes() {
+         return myBytes;
+      }
+
+      String getETag() {
+         return myETag;
+      }
+
+      byte[] getGzipped() throws IOException {
+         byte[] retVal = myGzipped;
+         if (retVal == null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(myBytes.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+               gzip.write(myBytes);
+            }
+            retVal = bytes.toByteArray();
+            myGzipped = retVal;
+         }
+         return retVal;
+      }
+
+      // the first 64 bits of the SHA-256 of the bytes, as hex
+      private static String hash(byte[] theBytes) {
+         try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(theBytes);
+            StringBuilder retVal = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+               retVal.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+            }
+            return retVal.toString();
+         } catch (NoSuchAlgorithmException e) {
+            // every Java platform has SHA-256
+            throw new IllegalStateException(e);
+         }
+      }
+   }
+}
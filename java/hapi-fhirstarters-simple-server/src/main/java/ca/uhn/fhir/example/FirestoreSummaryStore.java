@@ -0,0 +1,423 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reads and writes the Garmin summaries in Firestore.
+ *
+ * Known collections only fetch the fields their mapping reads, see {@link GarminCollection}.
+ * Every read holds a slot of {@link CollectionThrottle} until it is done and is counted in
+ * {@link ReadMetrics}.
+ */
+public class FirestoreSummaryStore implements GarminSummaryStore {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(FirestoreSummaryStore.class);
+
+   // Firestore allows at most this many values in a whereIn filter
+   public static final int MAX_WHERE_IN_VALUES = 10;
+
+   // Firestore allows at most this many writes in a batched write
+   public static final int MAX_BATCH_WRITES = 500;
+
+   private static final String USER_METRIC = "g_userMetric";
+
+   // reads only the metadata of a document, such as its update time
+   private static final FieldMask NO_FIELDS = FieldMask.of(new String[0]);
+
+   // calendarDate as written by the current ingestion, which sorts in date order as a string
+   private static final Pattern SORTABLE_CALENDAR_DATE = Pattern.compile("\\d{4}-\\d{2}-\\d{2}");
+
+   private final Firestore myDb;
+
+   // Remembers where the document for each collectionName:summaryId was found, so that
+   // later reads of the same summary are a point read instead of a summaryId query.
+   private final ResourceCache<String> myDocumentPaths = new ResourceCache<String>(100000, 24 * 60 * 60);
+
+   public FirestoreSummaryStore(Firestore theDb) {
+      myDb = theDb;
+   }
+
+   /**
+    * Records that the summary collectionName:summaryId is stored in the document at documentPath.
+    * Ingestion can call this when it writes a summary so that the first read is already a point read.
+    */
+   public void registerDocumentPath(String theCollName, String theSummaryId, String theDocumentPath) {
+      myDocumentPaths.put(theCollName + ":" + theSummaryId, theDocumentPath);
+   }
+
+   /**
+    * Looks up a summary without blocking the calling thread. The point read, the summaryId query
+    * fallback and the bookkeeping are chained as callbacks on the Firestore futures.
+    */
+   @Override
+   public ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId) {
+      ourLog.debug("Searching for resource with id {} in collection {}", theSummaryId, theCollName);
+
+      GarminCollection collection = GarminCollection.fromName(theCollName);
+      String metricsName = (collection != null) ? collection.getName() : theCollName;
+
+      // the read slot is held until the whole lookup, including any fallback query, is done
+      return CollectionThrottle.throttle(metricsName, () -> lookUpDocumentAsync(theCollName, theSummaryId, collection, metricsName));
+   }
+
+   private ApiFuture<GarminSummary> lookUpDocumentAsync(String theCollName, String theSummaryId,
+         GarminCollection theCollection, String theMetricsName) {
+      String idPart = theCollName + ":" + theSummaryId;
+      String path = myDocumentPaths.get(idPart);
+      if (path == null) {
+         return querySummaryIdAsync(theCollName, theSummaryId, theCollection, theMetricsName);
+      }
+
+      DocumentReference reference = myDb.document(path);
+      ApiFuture<DocumentSnapshot> pointRead = (theCollection != null) ? reference.get(theCollection.getFieldMask()) : reference.get();
+      return ApiFutures.transformAsync(pointRead, document -> {
+         if (document.exists()) {
+            return ApiFutures.<GarminSummary>immediateFuture(toSummary(theMetricsName, document));
+         }
+         // the document was removed or re-ingested under another ID, so look it up again
+         myDocumentPaths.invalidate(idPart);
+         return querySummaryIdAsync(theCollName, theSummaryId, theCollection, theMetricsName);
+      }, MoreExecutors.directExecutor());
+   }
+
+   // Fall back to querying on summaryId. Only the first match is used, so there is no
+   // point downloading any duplicates.
+   private ApiFuture<GarminSummary> querySummaryIdAsync(String theCollName, String theSummaryId,
+         GarminCollection theCollection, String theMetricsName) {
+      Query query = myDb.collection(theCollName).whereEqualTo("summaryId", theSummaryId).limit(1);
+      if (theCollection != null) {
+         query = query.select(theCollection.getFields());
+      }
+      return ApiFutures.transform(query.get(), querySnapshot -> {
+         List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
+         if (documents.isEmpty()) {
+            ourLog.debug("No document in {} with summaryId {}", theCollName, theSummaryId);
+            return null;
+         }
+         QueryDocumentSnapshot document = documents.get(0);
+         registerDocumentPath(theCollName, theSummaryId, document.getReference().getPath());
+         return toSummary(theMetricsName, document);
+      }, MoreExecutors.directExecutor());
+   }
+
+   /**
+    * Reads no fields of the document, only its update time: a point read with an empty field mask
+    * if the path of the summary is known, otherwise the summaryId query selecting only the
+    * document ID.
+    */
+   @Override
+   public ApiFuture<GarminSummary> findSummaryVersion(String theCollName, String theSummaryId) {
+      GarminCollection collection = GarminCollection.fromName(theCollName);
+      String metricsName = (collection != null) ? collection.getName() : theCollName;
+      return CollectionThrottle.throttle(metricsName, () -> lookUpVersionAsync(theCollName, theSummaryId));
+   }
+
+   private ApiFuture<GarminSummary> lookUpVersionAsync(String theCollName, String theSummaryId) {
+      String idPart = theCollName + ":" + theSummaryId;
+      String path = myDocumentPaths.get(idPart);
+      if (path == null) {
+         return queryVersionAsync(theCollName, theSummaryId);
+      }
+      return ApiFutures.transformAsync(myDb.document(path).get(NO_FIELDS), document -> {
+         if (document.exists()) {
+            return ApiFutures.<GarminSummary>immediateFuture(toVersion(document));
+         }
+         myDocumentPaths.invalidate(idPart);
+         return queryVersionAsync(theCollName, theSummaryId);
+      }, MoreExecutors.directExecutor());
+   }
+
+   private ApiFuture<GarminSummary> queryVersionAsync(String theCollName, String theSummaryId) {
+      Query query = myDb.collection(theCollName).whereEqualTo("summaryId", theSummaryId).limit(1).select(FieldPath.documentId());
+      return ApiFutures.transform(query.get(), querySnapshot -> {
+         List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
+         if (documents.isEmpty()) {
+            return null;
+         }
+         QueryDocumentSnapshot document = documents.get(0);
+         registerDocumentPath(theCollName, theSummaryId, document.getReference().getPath());
+         return toVersion(document);
+      }, MoreExecutors.directExecutor());
+   }
+
+   // a summary without fields, which only has the version of the document
+   private static GarminSummary toVersion(DocumentSnapshot theDocument) {
+      Date updateTime = (theDocument.getUpdateTime() != null) ? theDocument.getUpdateTime().toDate() : null;
+      return new GarminSummary(theDocument.getId(), theDocument.getReference().getPath(), null, updateTime);
+   }
+
+   /**
+    * Summaries whose document path is known are fetched with a single getAll, and the rest with
+    * whereIn queries on summaryId of up to {@link #MAX_WHERE_IN_VALUES} IDs each. All of the
+    * reads are started straight away.
+    */
+   @Override
+   public ApiFuture<List<GarminSummary>> findSummaries(String theCollName, Collection<String> theSummaryIds) {
+      GarminCollection collection = GarminCollection.fromName(theCollName);
+      String metricsName = (collection != null) ? collection.getName() : theCollName;
+      String[] fields = (collection != null) ? withSummaryId(collection.getFields()) : null;
+
+      List<DocumentReference> knownReferences = new ArrayList<DocumentReference>();
+      List<String> knownIds = new ArrayList<String>();
+      List<String> unknownIds = new ArrayList<String>();
+      for (String next : theSummaryIds) {
+         String path = myDocumentPaths.get(theCollName + ":" + next);
+         if (path == null) {
+            unknownIds.add(next);
+         } else {
+            knownReferences.add(myDb.document(path));
+            knownIds.add(next);
+         }
+      }
+
+      List<ApiFuture<List<GarminSummary>>> reads = new ArrayList<ApiFuture<List<GarminSummary>>>();
+      if (!knownReferences.isEmpty()) {
+         reads.add(getAllAsync(theCollName, knownReferences, knownIds, fields, metricsName));
+      }
+      for (int i = 0; i < unknownIds.size(); i += MAX_WHERE_IN_VALUES) {
+         List<String> chunk = unknownIds.subList(i, Math.min(i + MAX_WHERE_IN_VALUES, unknownIds.size()));
+         reads.add(CollectionThrottle.throttle(metricsName, () -> querySummaryIdsAsync(theCollName, chunk, fields, metricsName)));
+      }
+      return concat(reads);
+   }
+
+   // Point reads of the known paths in one round trip. Summaries that are no longer at their
+   // path are looked up again by summaryId, holding the same read slot.
+   private ApiFuture<List<GarminSummary>> getAllAsync(String theCollName, List<DocumentReference> theReferences,
+         List<String> theSummaryIds, String[] theFields, String theMetricsName) {
+      return CollectionThrottle.throttle(theMetricsName, () -> {
+         DocumentReference[] referenceArray = theReferences.toArray(new DocumentReference[0]);
+         ApiFuture<List<DocumentSnapshot>> pointReads = (theFields != null) ? myDb.getAll(referenceArray, FieldMask.of(theFields)) : myDb.getAll(referenceArray);
+         return ApiFutures.transformAsync(pointReads, snapshots -> {
+            List<GarminSummary> found = new ArrayList<GarminSummary>();
+            List<String> moved = new ArrayList<String>();
+            for (int i = 0; i < snapshots.size(); i++) {
+               DocumentSnapshot next = snapshots.get(i);
+               if (next.exists()) {
+                  found.add(toSummary(theMetricsName, next));
+               } else {
+                  myDocumentPaths.invalidate(theCollName + ":" + theSummaryIds.get(i));
+                  moved.add(theSummaryIds.get(i));
+               }
+            }
+            if (moved.isEmpty()) {
+               return ApiFutures.<List<GarminSummary>>immediateFuture(found);
+            }
+            List<ApiFuture<List<GarminSummary>>> queries = new ArrayList<ApiFuture<List<GarminSummary>>>();
+            queries.add(ApiFutures.immediateFuture(found));
+            for (int i = 0; i < moved.size(); i += MAX_WHERE_IN_VALUES) {
+               queries.add(querySummaryIdsAsync(theCollName, moved.subList(i, Math.min(i + MAX_WHERE_IN_VALUES, moved.size())), theFields, theMetricsName));
+            }
+            return concat(queries);
+         }, MoreExecutors.directExecutor());
+      });
+   }
+
+   private ApiFuture<List<GarminSummary>> querySummaryIdsAsync(String theCollName, List<String> theSummaryIds,
+         String[] theFields, String theMetricsName) {
+      Query query = myDb.collection(theCollName).whereIn("summaryId", new ArrayList<Object>(theSummaryIds));
+      if (theFields != null) {
+         query = query.select(theFields);
+      }
+      return ApiFutures.transform(query.get(), querySnapshot -> toSummaries(theCollName, theMetricsName, querySnapshot),
+         MoreExecutors.directExecutor());
+   }
+
+   /**
+    * Needs a composite index on (user_id, date field) in every collection. The date field and
+    * the document ID are what a page continues after, so they are always read.
+    */
+   @Override
+   public ApiFuture<List<GarminSummary>> searchSummaries(ObservationSearch.Target theTarget, String theUserId,
+         DateRangeParam theDate, GarminSummary theAfter, int theCount) {
+      String collName = theTarget.getCollection().getName();
+      String dateField = theTarget.getDateField();
+
+      Query query = myDb.collection(collName).whereEqualTo("user_id", theUserId);
+      if (theDate != null) {
+         Date lower = theDate.getLowerBoundAsInstant();
+         Date upper = theDate.getUpperBoundAsInstant();
+         if (lower != null) {
+            query = query.whereGreaterThanOrEqualTo(dateField, lower.getTime() / 1000);
+         }
+         if (upper != null) {
+            query = query.whereLessThanOrEqualTo(dateField, upper.getTime() / 1000);
+         }
+      }
+      query = query.orderBy(dateField).orderBy(FieldPath.documentId()).select(theTarget.getSearchFields());
+      if (theAfter != null) {
+         query = query.startAfter(theAfter.get(dateField), theAfter.getId());
+      }
+      return ApiFutures.transform(throttledGet(collName, query.limit(theCount)),
+         querySnapshot -> toSummaries(collName, collName, querySnapshot), MoreExecutors.directExecutor());
+   }
+
+   @Override
+   public ApiFuture<GarminSummary> findLatestUserMetric(String theUserId) {
+      // the read slot is held until the whole lookup, including the fallback scan, is done, so
+      // the scan never has to wait for a slot in a callback
+      return CollectionThrottle.throttle(USER_METRIC, () -> lookUpLatestUserMetricAsync(theUserId));
+   }
+
+   private ApiFuture<GarminSummary> lookUpLatestUserMetricAsync(String theUserId) {
+      // Only the newest metric is used, so let Firestore find it (this needs a composite
+      // index on user_id and calendarDate descending)
+      Query latest = myDb.collection(USER_METRIC).whereEqualTo("user_id", theUserId)
+         .orderBy("calendarDate", Query.Direction.DESCENDING).limit(1);
+      ApiFuture<GarminSummary> newest = ApiFutures.transformAsync(latest.get(), querySnapshot -> {
+         List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
+         if (documents.isEmpty()) {
+            return ApiFutures.<GarminSummary>immediateFuture(null);
+         }
+         GarminSummary document = toSummary(USER_METRIC, documents.get(0));
+         String calendarDate = document.getString("calendarDate");
+         if (calendarDate != null && SORTABLE_CALENDAR_DATE.matcher(calendarDate).matches()) {
+            return ApiFutures.immediateFuture(document);
+         }
+         // A legacy date without zero padding, like 2021-3-5, sorts above the padded dates of
+         // the same year, so it is not necessarily the newest. Compare the parsed dates instead.
+         ourLog.debug("Latest metric of {} has the legacy calendarDate {}", theUserId, calendarDate);
+         return findNewestByScanAsync(theUserId);
+      }, MoreExecutors.directExecutor());
+
+      // without the index the ordered query fails, so fall back to comparing every metric
+      return ApiFutures.catchingAsync(newest, RuntimeException.class, e -> {
+         ourLog.warn("Ordered query for the latest metric of {} failed, reading all of the user's metrics", theUserId, e);
+         return findNewestByScanAsync(theUserId);
+      }, MoreExecutors.directExecutor());
+   }
+
+   // Reads every metric of the user and keeps the one with the newest calendarDate, whether or
+   // not the date is zero padded. Runs in the read slot of findLatestUserMetric.
+   private ApiFuture<GarminSummary> findNewestByScanAsync(String theUserId) {
+      Query all = myDb.collection(USER_METRIC).whereEqualTo("user_id", theUserId);
+      return ApiFutures.transform(all.get(), querySnapshot -> {
+         List<GarminSummary> documents = toSummaries(USER_METRIC, USER_METRIC, querySnapshot);
+         ourLog.debug("Found {} user metrics for patient {}", documents.size(), theUserId);
+         return newestUserMetric(documents);
+      }, MoreExecutors.directExecutor());
+   }
+
+   /**
+    * @return the user metric with the newest calendarDate, or null if there is none with a date
+    *         in the YYYY-MM-DD format, zero padded or not
+    */
+   static GarminSummary newestUserMetric(List<GarminSummary> theDocuments) {
+      LocalDate mostRecentDate = null;
+      GarminSummary mostRecentDoc = null;
+      for (GarminSummary document : theDocuments) {
+         if (ourLog.isTraceEnabled()) {
+            ourLog.trace("User metric {}: summary ID {}, user ID {}, calendar date {}", document.getId(),
+               document.getString("summaryId"), document.getString("user_id"), document.getString("calendarDate"));
+         }
+
+         LocalDate curDate = Helper.parseCalendarDate(document.getString("calendarDate"));
+         if (curDate == null) {
+            ourLog.warn("Date format in Firebase is not the expected format of YYYY-MM-DD: {}", document.getString("calendarDate"));
+            continue;
+         }
+         if (mostRecentDate == null || curDate.isAfter(mostRecentDate)) {
+            mostRecentDate = curDate;
+            mostRecentDoc = document;
+         }
+      }
+      return mostRecentDoc;
+   }
+
+   /**
+    * Writes the summaries in batched writes of up to {@link #MAX_BATCH_WRITES} documents, all
+    * started at once. The path of every summary is remembered, so the first read of it is
+    * already a point read.
+    */
+   @Override
+   public ApiFuture<List<GarminSummary>> saveSummaries(String theCollName, List<GarminSummary> theSummaries) {
+      List<ApiFuture<List<WriteResult>>> commits = new ArrayList<ApiFuture<List<WriteResult>>>();
+      for (int i = 0; i < theSummaries.size(); i += MAX_BATCH_WRITES) {
+         WriteBatch batch = myDb.batch();
+         for (GarminSummary next : theSummaries.subList(i, Math.min(i + MAX_BATCH_WRITES, theSummaries.size()))) {
+            batch.set(myDb.collection(theCollName).document(next.getId()), next.getData());
+         }
+         commits.add(batch.commit());
+      }
+      return ApiFutures.transform(ApiFutures.allAsList(commits), results -> {
+         // one result per write, in the order of the writes of each batch
+         List<GarminSummary> retVal = new ArrayList<GarminSummary>(theSummaries.size());
+         for (List<WriteResult> batch : results) {
+            for (WriteResult result : batch) {
+               GarminSummary next = theSummaries.get(retVal.size());
+               String path = theCollName + "/" + next.getId();
+               String summaryId = next.getString("summaryId");
+               if (summaryId != null) {
+                  registerDocumentPath(theCollName, summaryId, path);
+               }
+               retVal.add(new GarminSummary(next.getId(), path, next.getData(), result.getUpdateTime().toDate()));
+            }
+         }
+         return retVal;
+      }, MoreExecutors.directExecutor());
+   }
+
+   // only on the thread that starts the read, see CollectionThrottle
+   private static ApiFuture<QuerySnapshot> throttledGet(String theCollName, Query theQuery) {
+      return CollectionThrottle.throttle(theCollName, theQuery::get);
+   }
+
+   // the summaries of a query, remembering where each one is stored
+   private List<GarminSummary> toSummaries(String theCollName, String theMetricsName, QuerySnapshot theSnapshot) {
+      List<GarminSummary> retVal = new ArrayList<GarminSummary>(theSnapshot.size());
+      for (QueryDocumentSnapshot next : theSnapshot.getDocuments()) {
+         String summaryId = next.getString("summaryId");
+         if (summaryId != null) {
+            registerDocumentPath(theCollName, summaryId, next.getReference().getPath());
+         }
+         retVal.add(toSummary(theMetricsName, next));
+      }
+      return retVal;
+   }
+
+   private static GarminSummary toSummary(String theMetricsName, DocumentSnapshot theDocument) {
+      Date updateTime = (theDocument.getUpdateTime() != null) ? theDocument.getUpdateTime().toDate() : null;
+      GarminSummary retVal = new GarminSummary(theDocument.getId(), theDocument.getReference().getPath(), theDocument.getData(), updateTime);
+      ReadMetrics.record(theMetricsName, retVal);
+      return retVal;
+   }
+
+   private static ApiFuture<List<GarminSummary>> concat(List<ApiFuture<List<GarminSummary>>> theReads) {
+      return ApiFutures.transform(ApiFutures.allAsList(theReads), results -> {
+         List<GarminSummary> documents = new ArrayList<GarminSummary>();
+         for (List<GarminSummary> next : results) {
+            documents.addAll(next);
+         }
+         return documents;
+      }, MoreExecutors.directExecutor());
+   }
+
+   private static String[] withSummaryId(String[] theFields) {
+      String[] retVal = new String[theFields.length + 1];
+      System.arraycopy(theFields, 0, retVal, 0, theFields.length);
+      retVal[theFields.length] = "summaryId";
+      return retVal;
+   }
+}
@@ -0,0 +1,95 @@
+package ca.uhn.fhir.example;
+
+import com.google.cloud.firestore.FieldMask;
+
+/**
+ * The Garmin collections in Firestore that the resource providers map to FHIR, together with
+ * the document fields each mapping reads. Only those fields are fetched from Firestore, so the
+ * rest of a large epoch or daily summary is never transferred.
+ *
+ * When a mapper starts reading a new field, the field must be added here as well. Every
+ * collection also fetches the resource that was materialized when a summary was ingested
+ * ({@link GarminSummary#FHIR_JSON}), which saves mapping the summary on read.
+ */
+public enum GarminCollection {
+   RESPIRATION("g_respiration", Fields.VITALS, "timeOffsetEpochToBreaths"),
+   PULSE_OX("g_pulseOx", Fields.VITALS, "timeOffsetSpo2Values"),
+   STRESS("g_stress", Fields.VITALS, "timeOffsetStressLevelValues"),
+   EPOCH("g_epoch", Fields.ACTIVITY,
+      "activeTimeInSeconds", "intensity", "maxMotionIntensity", "meanMotionIntensity", "met"),
+   ACTIVITY("g_activity", Fields.ACTIVITY,
+      "durationInSeconds", "averageHeartRateInBeatsPerMinute", "startingLatitudeInDegree",
+      "startingLongitudeInDegree", "averageRunCadenceInStepsPerMinute", "maxRunCadenceInStepsPerMinute",
+      "averageSpeedInMetersPerSecond", "maxSpeedInMetersPerSecond", "totalElevationGainInMeters",
+      "totalElevationLossInMeters"),
+   DAILY("g_daily", Fields.ACTIVITY,
+      "durationInSeconds", "timeOffsetHeartRateSamples", "activeTimeInSeconds",
+      "restingHeartRateInBeatsPerMinute", "averageHeartRateInBeatsPerMinute", "bmrKilocalories",
+      "consumedCalories", "netKilocaloriesGoal", "floorsClimbed", "floorsClimbedGoal", "stepsGoal",
+      "moderateIntensityDurationInSeconds", "vigorousIntensityDurationInSeconds",
+      "intensityDurationGoalInSeconds", "averageStressLevel", "maxStressLevel", "stressDurationInSeconds",
+      "restStressDurationInSeconds", "activityStressDurationInSeconds", "lowStressDurationInSeconds",
+      "mediumStressDurationInSeconds", "highStressDurationInSeconds", "stressQualifier"),
+   ACTIVITY_DETAIL("g_activityDetail", Fields.SUBJECT),
+   SLEEP("g_sleep", Fields.SUBJECT),
+   MOVE_IQ("g_moveIq", Fields.SUBJECT,
+      "activityType", "activitySubType", "startTimeInSeconds", "offsetInSeconds", "durationInSeconds");
+
+   private static final GarminCollection[] ALL = values();
+
+   private final String myName;
+   private final String[] myFields;
+   private final FieldMask myFieldMask;
+
+   GarminCollection(String theName, String[] theSharedFields, String... theFields) {
+      myName = theName;
+      myFields = new String[theSharedFields.length + theFields.length];
+      System.arraycopy(theSharedFields, 0, myFields, 0, theSharedFields.length);
+      System.arraycopy(theFields, 0, myFields, theSharedFields.length, theFields.length);
+      myFieldMask = FieldMask.of(myFields);
+   }
+
+   /**
+    * @return the Firestore collection name
+    */
+   public String getName() {
+      return myName;
+   }
+
+   /**
+    * @return a copy of the names of the fields the mapping reads
+    */
+   public String[] getFields() {
+      return myFields.clone();
+   }
+
+   /**
+    * @return a field mask limited to the fields the mapping reads
+    */
+   public FieldMask getFieldMask() {
+      return myFieldMask;
+   }
+
+   /**
+    * Finds a collection by name, ignoring case as the providers always have.
+    *
+    * @return the collection, or null if the name is not a known Garmin collection
+    */
+   public static GarminCollection fromName(String theName) {
+      for (GarminCollection next : ALL) {
+         if (next.myName.equalsIgnoreCase(theName)) {
+            return next;
+         }
+      }
+      return null;
+   }
+
+   // field groups shared by several mappings
+   private static final class Fields {
+      static final String[] SUBJECT = {"user_id", GarminSummary.FHIR_JSON};
+      static final String[] VITALS = {"user_id", GarminSummary.FHIR_JSON, "startTimeInSeconds", "startTimeOffsetInSeconds"};
+      static final String[] ACTIVITY = {"user_id", GarminSummary.FHIR_JSON, "startTimeInSeconds", "offsetInSeconds", "activityType",
+         "activeKilocalories", "distanceInMeters", "steps", "maxHeartRateInBeatsPerMinute",
+         "minHeartRateInBeatsPerMinute"};
+   }
+}
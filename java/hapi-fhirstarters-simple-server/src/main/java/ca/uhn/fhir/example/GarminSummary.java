@@ -0,0 +1,106 @@
+package ca.uhn.fhir.example;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * A Garmin summary as read from a {@link GarminSummaryStore}, independent of where it is stored.
+ *
+ * The accessors behave like those of a Firestore DocumentSnapshot, so the mappers read a summary
+ * the same way whichever store it came from: a field name may be a dotted path into nested maps,
+ * whole numbers are Longs and numbers with a fraction are Doubles.
+ */
+public final class GarminSummary {
+
+   /**
+    * The field that holds the FHIR resource a summary maps to, encoded as JSON when the summary
+    * was ingested, see {@link SummaryIngester}. Summaries written some other way do not have it.
+    */
+   public static final String FHIR_JSON = "fhirJson";
+
+   private final String myId;
+   private final String myPath;
+   private final Map<String, Object> myData;
+   private final Date myUpdateTime;
+
+   /**
+    * @param theId         the ID of the document within its collection
+    * @param thePath       the full path of the document, collectionName/documentId
+    * @param theData       the fields of the document, which must not be changed afterwards
+    * @param theUpdateTime when the document was last written, or null if the store does not know
+    */
+   public GarminSummary(String theId, String thePath, Map<String, Object> theData, Date theUpdateTime) {
+      myId = theId;
+      myPath = thePath;
+      myData = (theData != null) ? theData : Collections.<String, Object>emptyMap();
+      myUpdateTime = theUpdateTime;
+   }
+
+   public String getId() {
+      return myId;
+   }
+
+   public String getPath() {
+      return myPath;
+   }
+
+   /**
+    * @return the fields of the summary, read-only
+    */
+   public Map<String, Object> getData() {
+      return Collections.unmodifiableMap(myData);
+   }
+
+   public Date getUpdateTime() {
+      return myUpdateTime;
+   }
+
+   /**
+    * @return a version that changes whenever the summary is written with other fields: the update
+    *         time in milliseconds, or a hash of the fields if the store does not know the update time
+    */
+   public String getVersion() {
+      if (myUpdateTime != null) {
+         return Long.toString(myUpdateTime.getTime());
+      }
+      return "h" + Integer.toHexString(myData.hashCode());
+   }
+
+   /**
+    * @return the value of the field, or null if it is missing
+    */
+   public Object get(String theField) {
+      Map<?, ?> map = myData;
+      int start = 0;
+      int dot;
+      while ((dot = theField.indexOf('.', start)) != -1) {
+         Object next = map.get(theField.substring(start, dot));
+         if (!(next instanceof Map)) {
+            return null;
+         }
+         map = (Map<?, ?>) next;
+         start = dot + 1;
+      }
+      return map.get(start == 0 ? theField : theField.substring(start));
+   }
+
+   public String getString(String theField) {
+      return (String) get(theField);
+   }
+
+   public Long getLong(String theField) {
+      Number value = (Number) get(theField);
+      return (value != null) ? value.longValue() : null;
+   }
+
+   public Double getDouble(String theField) {
+      Number value = (Number) get(theField);
+      return (value != null) ? value.doubleValue() : null;
+   }
+
+   @Override
+   public String toString() {
+      return myPath;
+   }
+}
@@ -0,0 +1,70 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import com.google.api.core.ApiFuture;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Where the resource providers read Garmin summaries from, and where ingestion writes them.
+ * {@link FirestoreSummaryStore} uses the live Firestore project, {@link LocalSummaryStore} keeps
+ * summaries in memory, loaded from JSON fixtures, so the server can run without network access,
+ * e.g. for benchmarks and CI.
+ *
+ * Every read returns a future, so providers can chain their mapping onto it and only block once
+ * for the result, see {@link Helper#awaitResult}.
+ */
+public interface GarminSummaryStore {
+
+   /**
+    * @return a future holding the summary of the collection with the summaryId, or null if
+    *         there is none
+    */
+   ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId);
+
+   /**
+    * Looks up only what a conditional read compares, so that a client with a current copy is
+    * answered with 304 Not Modified without reading the whole summary.
+    *
+    * @return a future holding the summary of the collection with the summaryId, with at least
+    *         its update time, so its {@link GarminSummary#getVersion} is that of the whole
+    *         summary, or null if there is none
+    */
+   ApiFuture<GarminSummary> findSummaryVersion(String theCollName, String theSummaryId);
+
+   /**
+    * Looks up many summaries of one collection at once.
+    *
+    * @return a future holding the summaries that were found, in no particular order. Each one
+    *         includes its summaryId.
+    */
+   ApiFuture<List<GarminSummary>> findSummaries(String theCollName, Collection<String> theSummaryIds);
+
+   /**
+    * Reads the summaries of one user in the collection of a search target, ordered by the
+    * target's date field and then by document ID, including at least the target's search fields.
+    *
+    * @param theDate  the range the date field must fall in, or null
+    * @param theAfter the last summary of the previous page, to continue after, or null to start
+    *                 at the beginning
+    * @param theCount the most summaries to read
+    */
+   ApiFuture<List<GarminSummary>> searchSummaries(ObservationSearch.Target theTarget, String theUserId,
+         DateRangeParam theDate, GarminSummary theAfter, int theCount);
+
+   /**
+    * @return a future holding the user metric of the user with the newest calendarDate, or null
+    *         if the user has no metrics
+    */
+   ApiFuture<GarminSummary> findLatestUserMetric(String theUserId);
+
+   /**
+    * Writes summaries to a collection, each one to the document named by its ID. A document that
+    * already exists is replaced, so writing the same summary again changes nothing.
+    *
+    * @return a future holding the summaries as written, in the same order, each with the update
+    *         time the store gave it and so with the version a read of it has
+    */
+   ApiFuture<List<GarminSummary>> saveSummaries(String theCollName, List<GarminSummary> theSummaries);
+}
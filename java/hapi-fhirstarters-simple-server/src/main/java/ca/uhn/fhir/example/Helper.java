@@ -1,203 +1,262 @@
 package ca.uhn.fhir.example;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.Firestore;
-
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-
-import com.google.firebase.cloud.FirestoreClient;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
-import com.google.common.collect.ImmutableMap;
 import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Query;
-import com.google.cloud.firestore.CollectionReference;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 // fhir
 import ca.uhn.fhir.rest.annotation.IdParam;
-import ca.uhn.fhir.rest.annotation.Read;
-import ca.uhn.fhir.rest.server.IResourceProvider;
-import ca.uhn.fhir.rest.server.exceptions.ResourceNotFoundException;
+import ca.uhn.fhir.rest.api.Constants;
+import ca.uhn.fhir.rest.api.server.RequestDetails;
+import ca.uhn.fhir.rest.server.exceptions.BaseServerResponseException;
+import ca.uhn.fhir.rest.server.exceptions.NotModifiedException;
+import ca.uhn.fhir.util.DateUtils;
+import org.hl7.fhir.r4.model.Resource;
 import org.hl7.fhir.r4.model.IdType;
 import org.hl7.fhir.instance.model.api.IBaseResource;
 import org.hl7.fhir.r4.model.Period;
 import org.hl7.fhir.r4.model.DateTimeType;
 
 // access java common operations
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.ArrayList;
 import java.util.Date;
-import java.text.SimpleDateFormat;
 import java.util.concurrent.ExecutionException;
-import java.io.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.TimeZone;
+import java.time.ZoneOffset;
+import ca.uhn.fhir.model.api.TemporalPrecisionEnum;
 import java.time.LocalDate;
-import java.util.Collections;  
-import java.util.Comparator;    
-import java.util.LinkedHashMap;  
-import java.util.LinkedList;  
-import java.util.List;  
-import java.util.Map.Entry;  
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 // A class of helper methods to be used by resource providers 
 public class Helper {
-    // test that you've connected to Firebase by retrieving all user metric documents in Garmin. 
-   public static void retrieveUsers(Firestore db)
-   {
-       // asynchronously retrieve all users
-       ApiFuture<QuerySnapshot> query = db.collection("g_userMetric").get();
-       // ...
-       // query.get() blocks on response
-       try {
-           QuerySnapshot querySnapshot = query.get();
-               List<QueryDocumentSnapshot> documents = querySnapshot.getDocuments();
-               for (QueryDocumentSnapshot document : documents) {
-                   System.out.println("User: " + document.getId());
-                   System.out.println("Summary ID: " + document.getString("summaryId"));
-                   System.out.println("User ID: " + document.getString("user_id"));
-               }	
-       }
-       catch (Exception e){
-           e.printStackTrace();
-
-       }
-       
-   }
-
-    // convert unix time to 
-    // An instant in time in the format YYYY-MM-DDThh:mm:ss.sss+zz:zz 
-    // (e.g. 2015-02-07T13:28:17.239+02:00 or 2017-01-01T00:00:00Z).
-
-   public static String formatDate(Long unixTimeStamp) {
-    // convert seconds to milliseconds
-    Date date = new java.util.Date(unixTimeStamp*1000L); 
-    // the format of your date
-    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX"); // iso 8601
-    // give a timezone reference for formatting 
-    sdf.setTimeZone(java.util.TimeZone.getTimeZone("GMT-7")); 
-    String formattedDate = sdf.format(date);
-    System.out.println("Effective dateTime: " + formattedDate);
-    return formattedDate;
-
-   }
-
-   public static HashMap<String, Long> sortMapByKeyStringToLong(Map<String, Long> myMap)   {  
-    //convert HashMap into List   
-    List<Entry<String, Long>> list = new LinkedList<Entry<String, Long>>(myMap.entrySet());  
-    //sorting the list elements  
-    Collections.sort(list, new Comparator<Entry<String, Long>>()   {  
-       public int compare(Entry<String, Long> o1, Entry<String, Long> o2)   {  
-          //sort ascending, compare two object and return value
-          Long val1 = Long.parseLong(o1.getKey());
-          Long val2 = Long.parseLong(o2.getKey());
-          if (val2 > val1) {
-             return -1;
-          } else if (val1 > val2){
-             return 1;
-          }  else {
-             return 0;
-          }
-       }  
-    });
-    HashMap<String, Long> sortedMap = new LinkedHashMap<String, Long>();  
-    for (Entry<String, Long> entry : list)   {  
-       sortedMap.put(entry.getKey(), entry.getValue());  
-    }
-    return sortedMap;  
+    private static final Logger ourLog = LoggerFactory.getLogger(Helper.class);
+
+    // Garmin summaries give the start as UTC epoch seconds plus the wearer's offset from UTC
+    // (offsetInSeconds, or startTimeOffsetInSeconds for the vitals summaries). Dates are written
+    // as an instant in the wearer's local time, e.g. 2015-02-07T13:28:17.239+02:00.
+
+    // one TimeZone per UTC offset seen, there are only a few dozen in use
+    private static final ConcurrentHashMap<Integer, TimeZone> timeZones = new ConcurrentHashMap<Integer, TimeZone>();
+
+    /**
+     * Builds the DateTimeType for an instant directly, instead of formatting it and having
+     * DateTimeType parse the string back.
+     *
+     * @param theEpochSeconds the instant, in seconds since 1970-01-01T00:00:00Z
+     * @param theOffsetSeconds the offset from UTC of the local time to write the instant in
+     */
+    public static DateTimeType toDateTime(long theEpochSeconds, long theOffsetSeconds) {
+        return new DateTimeType(new Date(theEpochSeconds * 1000L), TemporalPrecisionEnum.MILLI, getTimeZone(theOffsetSeconds));
     }
 
-    public static HashMap<String, Double> sortMapByKeyStringToDouble(Map<String, Double> myMap)   {  
-        //convert HashMap into List   
-        List<Entry<String, Double>> list = new LinkedList<Entry<String, Double>>(myMap.entrySet());  
-        //sorting the list elements  
-        Collections.sort(list, new Comparator<Entry<String, Double>>()   {  
-        public int compare(Entry<String, Double> o1, Entry<String, Double> o2)   {  
-            //sort ascending, compare two object and return value
-            Long val1 = Long.parseLong(o1.getKey());
-            Long val2 = Long.parseLong(o2.getKey());
-            if (val2 > val1) {
-                return -1;
-            } else if (val1 > val2){
-                return 1;
-            }  else {
-                return 0;
-            }
-        }  
-        });
-        HashMap<String, Double> sortedMap = new LinkedHashMap<String, Double>();  
-        for (Entry<String, Double> entry : list)   {  
-        sortedMap.put(entry.getKey(), entry.getValue());  
+    private static ZoneOffset toZoneOffset(long theOffsetSeconds) {
+        // an offset outside of +/-18 hours is not a real offset, write the instant in UTC
+        if (Math.abs(theOffsetSeconds) > 18 * 60 * 60) {
+            return ZoneOffset.UTC;
         }
-        return sortedMap;  
+        return ZoneOffset.ofTotalSeconds((int) theOffsetSeconds);
+    }
+
+    private static TimeZone getTimeZone(long theOffsetSeconds) {
+        ZoneOffset offset = toZoneOffset(theOffsetSeconds);
+        return timeZones.computeIfAbsent(offset.getTotalSeconds(), k -> TimeZone.getTimeZone(offset));
     }
 
-    public static QueryDocumentSnapshot searchForDocument(Firestore db, @IdParam IdType theId) {
+    public static GarminSummary searchForDocument(GarminSummaryStore store, @IdParam IdType theId) {
+        return awaitResult(searchForDocumentAsync(store, theId));
+    }
+
+    /**
+     * Looks up the summary behind a collectionName:summaryId resource ID without blocking the
+     * calling thread.
+     *
+     * @return a future holding the summary, or null if the ID is malformed or nothing matches
+     */
+    public static ApiFuture<GarminSummary> searchForDocumentAsync(GarminSummaryStore store, @IdParam IdType theId) {
         String[] theIdParts = theId.getIdPart().split(":");
       
         if (theIdParts.length != 2) {
-            System.out.println("To return a non-dummy resource the input ID should be the form collectionName:summaryId");
-            return null;
+            ourLog.debug("To return a non-dummy resource the input ID should be the form collectionName:summaryId, got {}", theId.getIdPart());
+            return ApiFutures.immediateFuture(null);
         }
-  
-        String collName = theIdParts[0];
-        String theSummaryId = theIdParts[1];
-        
-        System.out.print("===========================================\nSearching for Resource with id " + theSummaryId);
-        System.out.print(" in collection " + collName + "\n");
-        
+        return store.findSummary(theIdParts[0], theIdParts[1]);
+    }
+
+    /**
+     * Like {@link #searchForDocumentAsync}, but a conditional read first looks up only the version
+     * of the summary, see GarminSummaryStore.findSummaryVersion, and is answered with 304 Not
+     * Modified without reading the summary if the client's copy is current.
+     *
+     * @return a future holding the summary, or null if the ID is malformed or nothing matches
+     */
+    public static ApiFuture<GarminSummary> searchForModifiedDocumentAsync(GarminSummaryStore store, IdType theId, RequestDetails theRequestDetails) {
+        String[] theIdParts = theId.getIdPart().split(":");
+        if (!isConditional(theRequestDetails) || theIdParts.length != 2) {
+            return searchForDocumentAsync(store, theId);
+        }
+        return ApiFutures.transformAsync(store.findSummaryVersion(theIdParts[0], theIdParts[1]), version -> {
+            if (version == null) {
+                return ApiFutures.immediateFuture(null);
+            }
+            checkNotModified(theRequestDetails, version);
+            return store.findSummary(theIdParts[0], theIdParts[1]);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static boolean isConditional(RequestDetails theRequestDetails) {
+        return theRequestDetails != null && (theRequestDetails.getHeader(Constants.HEADER_IF_NONE_MATCH) != null
+            || theRequestDetails.getHeader(Constants.HEADER_IF_MODIFIED_SINCE) != null);
+    }
+
+    /**
+     * Waits for a future built from store callbacks. This is the single point where a request
+     * thread blocks, once the whole chain from the store to FHIR resource has been composed.
+     *
+     * @return the result, or null if the chain failed
+     * @throws BaseServerResponseException if a step of the chain answered the request, e.g. with
+     *         304 Not Modified
+     */
+    public static <T> T awaitResult(ApiFuture<T> future) {
         try {
-            ApiFuture<QuerySnapshot> future = db.collection(collName).whereEqualTo("summaryId", theSummaryId).get();
-            List<QueryDocumentSnapshot> documents = future.get().getDocuments();
-            System.out.println("Number of matching documents: " + documents.size());
-            
-            if (documents.size() >= 1) {
-                QueryDocumentSnapshot document = documents.get(0);
-                System.out.println("Document data: " + document.getData());
-                //System.out.println("Document data: \n" + new JSONObjectdocument.getData() 
-                return document;
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ourLog.warn("Interrupted while waiting for the summary store", e);
+        }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof BaseServerResponseException) {
+                throw (BaseServerResponseException) e.getCause();
             }
-            
-            System.out.println("No matching documents found");
+            ourLog.error("Summary store read failed", e.getCause());
         }
+        return null;
+    }
 
-        catch (Exception e) {
-            e.printStackTrace();
-        }     
+    /**
+     * Gives a resource mapped from a summary the summary's version, as meta.versionId and in its
+     * ID, and its update time as meta.lastUpdated. The server sends them as ETag and Last-Modified.
+     */
+    public static <T extends Resource> T setVersion(T theResource, GarminSummary document) {
+        String version = document.getVersion();
+        theResource.getMeta().setVersionId(version);
+        theResource.getMeta().setLastUpdated(document.getUpdateTime());
+        IdType id = theResource.getIdElement();
+        theResource.setId(new IdType(theResource.fhirType(), id.getIdPart(), version));
+        return theResource;
+    }
 
-        return null;
+    /**
+     * Decides a conditional read. If-None-Match wins over If-Modified-Since, as in RFC 7232.
+     *
+     * @param theLastUpdated when the resource was last changed, or null if it is not known
+     * @param theETags       the entity tags of the resource, without quotes or W/. A tag also
+     *                       matches the strong ETag EncodedResponseCache sends, tag-hash.
+     * @return true if the client's copy is current, so the answer is 304 Not Modified
+     */
+    public static boolean isNotModified(RequestDetails theRequestDetails, Date theLastUpdated, String... theETags) {
+        List<String> ifNoneMatch = theRequestDetails.getHeaders(Constants.HEADER_IF_NONE_MATCH);
+        if (ifNoneMatch != null && !ifNoneMatch.isEmpty()) {
+            for (String header : ifNoneMatch) {
+                for (String next : header.split(",")) {
+                    String tag = next.trim();
+                    if (tag.equals("*")) {
+                        return true;
+                    }
+                    // weak comparison, the only one If-None-Match uses
+                    if (tag.startsWith("W/")) {
+                        tag = tag.substring(2);
+                    }
+                    if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                        tag = tag.substring(1, tag.length() - 1);
+                    }
+                    for (String eTag : theETags) {
+                        if (tag.equals(eTag) || (tag.startsWith(eTag) && tag.charAt(eTag.length()) == '-')) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        String ifModifiedSince = theRequestDetails.getHeader(Constants.HEADER_IF_MODIFIED_SINCE);
+        if (ifModifiedSince == null || theLastUpdated == null) {
+            return false;
+        }
+        Date since = DateUtils.parseDate(ifModifiedSince);
+        // HTTP dates have no milliseconds
+        return since != null && theLastUpdated.getTime() / 1000 <= since.getTime() / 1000;
     }
 
-    public static Period formatPeriod(QueryDocumentSnapshot document, String durationField) {
-        Period periodOfActivity = new Period();
-        
-        Object startTime = document.get("startTimeInSeconds");
-        Object localOffset = document.get("offsetInSeconds");
-        Object duration = document.get(durationField);
+    /**
+     * Answers a read with 304 Not Modified if the client's copy of the resource is current.
+     */
+    public static void checkNotModified(RequestDetails theRequestDetails, IBaseResource theResource) {
+        if (theRequestDetails == null || theResource == null) {
+            return;
+        }
+        String version = theResource.getMeta().getVersionId();
+        if (version != null && isNotModified(theRequestDetails, theResource.getMeta().getLastUpdated(), version)) {
+            throw new NotModifiedException("Not Modified");
+        }
+    }
 
-        Long startTimeLong = 0L;
-        Long localOffsetLong = 0L;
-        Long durationLong = 0L;
+    /**
+     * Answers a read with 304 Not Modified if the client's copy of the summary's resource is
+     * current, before the summary is mapped.
+     */
+    public static void checkNotModified(RequestDetails theRequestDetails, GarminSummary document) {
+        if (theRequestDetails != null && document != null
+            && isNotModified(theRequestDetails, document.getUpdateTime(), document.getVersion())) {
+            throw new NotModifiedException("Not Modified");
+        }
+    }
 
-        if (startTime != null) {
-            startTimeLong = Long.parseLong(String.valueOf(startTime));
+    /**
+     * Parses the calendarDate of a user metric, which is YYYY-MM-DD but not always zero padded.
+     *
+     * @return the date, or null if it is missing or not in that format
+     */
+    public static LocalDate parseCalendarDate(String theCalendarDate) {
+        if (theCalendarDate == null) {
+            return null;
+        }
+        String[] dateParts = theCalendarDate.split("-");
+        if (dateParts.length != 3) {
+            return null;
         }
-        if (localOffset != null) {
-            localOffsetLong = Long.parseLong(String.valueOf(localOffset));
+        try {
+            return LocalDate.of(Integer.parseInt(dateParts[0]), Integer.parseInt(dateParts[1]), Integer.parseInt(dateParts[2]));
         }
-        if (duration != null) {
-            durationLong = Long.parseLong(String.valueOf(duration));
+        catch (RuntimeException e) {
+            return null;
         }
+    }
+
+    public static Period formatPeriod(GarminSummary document, String durationField) {
+        Period periodOfActivity = new Period();
 
-        Long start = startTimeLong + localOffsetLong;
-        Long end = start + durationLong;
+        long start = getLong(document, "startTimeInSeconds");
+        long localOffset = getLong(document, "offsetInSeconds");
+        long duration = getLong(document, durationField);
 
-        periodOfActivity.setStartElement(new DateTimeType(formatDate(start)));
-        periodOfActivity.setEndElement(new DateTimeType(formatDate(end)));
+        periodOfActivity.setStartElement(toDateTime(start, localOffset));
+        periodOfActivity.setEndElement(toDateTime(start + duration, localOffset));
 
         return periodOfActivity;
     }
+
+    /**
+     * @return the numeric field of the document as a whole number, or 0 if it is missing
+     */
+    public static long getLong(GarminSummary document, String field) {
+        Object value = document.get(field);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        return value == null ? 0 : Long.parseLong(String.valueOf(value));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,231 @@
+package ca.uhn.fhir.example;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.servlet.ServletException;
+import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives Garmin summaries as they are produced, e.g. from the push notifications of the Garmin
+ * Health API, and hands them to the {@link SummaryIngester} that {@link SimpleRestfulServer}
+ * registers in the servlet context.
+ *
+ * POST /ingest with a JSON object from collection name to an array of summaries, each in the form
+ * it is stored in, including user_id and summaryId:
+ * <pre>
+ * {"g_epoch": [{"summaryId": "x1-0", "user_id": "g2", "startTimeInSeconds": 1616442865, ...}, ...],
+ *  "g_userMetric": [...]}
+ * </pre>
+ * The answer is 202 once the summaries are queued, 400 if the request is malformed, 413 if it is
+ * larger than -Dingest.maxRequestBytes (default 32 MB) or holds more summaries than the queue
+ * can, and 503 with a Retry-After header if the queue is full. Both limits are checked while the
+ * request is read, so an oversized request is never read in full. Nothing of a refused request is queued, so the whole
+ * request can be sent again.
+ *
+ * Anything POSTed here is written to the store, so the endpoint is off unless the server is
+ * started with -Dingest.enabled=true and a shared secret in -Dingest.secret=... Every request
+ * must then carry the secret as "Authorization: Bearer &lt;secret&gt;" and is answered with 401
+ * otherwise. While the endpoint is off it answers 404.
+ */
+@WebServlet(urlPatterns = "/ingest")
+public class IngestServlet extends HttpServlet {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(IngestServlet.class);
+
+   public static final long DEFAULT_MAX_REQUEST_BYTES = 32L * 1024 * 1024;
+
+   private static final String RETRY_AFTER_SECONDS = "5";
+   private static final String BEARER = "Bearer ";
+
+   // null while the endpoint is off
+   private byte[] mySecret;
+   private long myMaxRequestBytes;
+
+   @Override
+   public void init() throws ServletException {
+      super.init();
+      myMaxRequestBytes = Long.getLong("ingest.maxRequestBytes", DEFAULT_MAX_REQUEST_BYTES);
+      if (!Boolean.getBoolean("ingest.enabled")) {
+         ourLog.info("POST /ingest is off, start the server with -Dingest.enabled=true and -Dingest.secret=... to turn it on");
+         return;
+      }
+      String secret = System.getProperty("ingest.secret");
+      if (secret == null || secret.isEmpty()) {
+         ourLog.error("POST /ingest stays off, -Dingest.enabled=true needs a shared secret in -Dingest.secret");
+         return;
+      }
+      mySecret = secret.getBytes(StandardCharsets.UTF_8);
+   }
+
+   @Override
+   protected void doPost(HttpServletRequest theReq, HttpServletResponse theResp) throws IOException {
+      if (mySecret == null) {
+         theResp.sendError(HttpServletResponse.SC_NOT_FOUND);
+         return;
+      }
+      if (!isAuthorized(theReq)) {
+         theResp.setHeader("WWW-Authenticate", "Bearer");
+         theResp.sendError(HttpServletResponse.SC_UNAUTHORIZED, "The ingest secret is missing or wrong");
+         return;
+      }
+
+      SummaryIngester ingester = (SummaryIngester) getServletContext().getAttribute(SummaryIngester.class.getName());
+      if (ingester == null) {
+         theResp.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+         theResp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "The server is still starting");
+         return;
+      }
+
+      if (theReq.getContentLengthLong() > myMaxRequestBytes) {
+         theResp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "At most " + myMaxRequestBytes + " bytes can be sent at once");
+         return;
+      }
+
+      Map<String, List<Map<String, Object>>> summaries;
+      int count = 0;
+      try {
+         // a chunked request has no Content-Length, so the bytes are counted as they are read too
+         InputStream body = new LimitedInputStream(theReq.getInputStream(), myMaxRequestBytes);
+         summaries = readSummaries(new JsonReader(new InputStreamReader(body, StandardCharsets.UTF_8)), ingester.getQueueCapacity());
+         for (List<Map<String, Object>> next : summaries.values()) {
+            count += next.size();
+         }
+      } catch (RequestTooLargeException e) {
+         theResp.sendError(HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, e.getMessage());
+         return;
+      } catch (IllegalArgumentException | IllegalStateException | JsonParseException | MalformedJsonException | EOFException e) {
+         theResp.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+         return;
+      }
+
+      if (!ingester.submit(summaries)) {
+         ourLog.debug("Ingest queue is full, refused {} summaries", count);
+         theResp.setHeader("Retry-After", RETRY_AFTER_SECONDS);
+         theResp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Too many summaries are waiting to be written");
+         return;
+      }
+      theResp.setStatus(HttpServletResponse.SC_ACCEPTED);
+   }
+
+   private boolean isAuthorized(HttpServletRequest theReq) {
+      String authorization = theReq.getHeader("Authorization");
+      if (authorization == null || !authorization.startsWith(BEARER)) {
+         return false;
+      }
+      byte[] secret = authorization.substring(BEARER.length()).trim().getBytes(StandardCharsets.UTF_8);
+      // takes the same time however much of the secret matches
+      return MessageDigest.isEqual(secret, mySecret);
+   }
+
+   @SuppressWarnings("unchecked")
+   // stops with a RequestTooLargeException as soon as there is one summary more than theMaxCount
+   private static Map<String, List<Map<String, Object>>> readSummaries(JsonReader theReader, int theMaxCount) throws IOException {
+      Map<String, List<Map<String, Object>>> retVal = new LinkedHashMap<String, List<Map<String, Object>>>();
+      int count = 0;
+      theReader.beginObject();
+      while (theReader.hasNext()) {
+         String name = theReader.nextName();
+         String collName = SummaryIngester.getCollectionName(name);
+         if (collName == null) {
+            throw new IllegalArgumentException("Summaries of " + name + " cannot be ingested");
+         }
+         List<Map<String, Object>> summaries = retVal.get(collName);
+         if (summaries == null) {
+            summaries = new ArrayList<Map<String, Object>>();
+            retVal.put(collName, summaries);
+         }
+         theReader.beginArray();
+         while (theReader.hasNext()) {
+            if (++count > theMaxCount) {
+               throw new RequestTooLargeException("At most " + theMaxCount + " summaries can be sent at once");
+            }
+            if (theReader.peek() != JsonToken.BEGIN_OBJECT) {
+               throw new IllegalArgumentException("Expected a summary object in " + name + " at " + theReader.getPath());
+            }
+            Map<String, Object> summary = (Map<String, Object>) SummaryJson.readValue(theReader);
+            Object summaryId = summary.get("summaryId");
+            // the summaryId names the document, so it cannot be empty or contain a slash
+            if (!(summaryId instanceof String) || ((String) summaryId).isEmpty() || ((String) summaryId).indexOf('/') != -1) {
+               throw new IllegalArgumentException("Summary without a valid summaryId in " + name + " at " + theReader.getPath());
+            }
+            summaries.add(summary);
+         }
+         theReader.endArray();
+      }
+      theReader.endObject();
+      return retVal;
+   }
+
+   private static final class RequestTooLargeException extends IOException {
+      private RequestTooLargeException(String theMessage) {
+         super(theMessage);
+      }
+   }
+
+   // Fails the read of the request body once more than the limit has been read
+   private static final class LimitedInputStream extends FilterInputStream {
+      private final long myLimit;
+      private long myCount;
+
+      private LimitedInputStream(InputStream theIn, long theLimit) {
+         super(theIn);
+         myLimit = theLimit;
+      }
+
+      @Override
+      public int read() throws IOException {
+         int retVal = super.read();
+         if (retVal != -1) {
+            count(1);
+         }
+         return retVal;
+      }
+
+      @Override
+      public int read(byte[] theBuffer, int theOffset, int theLength) throws IOException {
+         int retVal = super.read(theBuffer, theOffset, theLength);
+         if (retVal > 0) {
+            count(retVal);
+         }
+         return retVal;
+      }
+
+      @Override
+      public long skip(long theCount) throws IOException {
+         long retVal = super.skip(theCount);
+         count(retVal);
+         return retVal;
+      }
+
+      @Override
+      public boolean markSupported() {
+         return false;
+      }
+
+      private void count(long theRead) throws RequestTooLargeException {
+         myCount += theRead;
+         if (myCount > myLimit) {
+            throw new RequestTooLargeException("At most " + myLimit + " bytes can be sent at once");
+         }
+      }
+   }
+}
@@ -0,0 +1,277 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.gson.stream.JsonReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serves Garmin summaries from memory, loaded once from JSON fixtures. Nothing goes over the
+ * network, so the server runs the same way every time, e.g. for throughput benchmarks and CI.
+ *
+ * There is one fixture per collection, named after the collection (g_daily.json, ...). It holds
+ * a JSON object with a member per document, from the document ID to the fields of the document,
+ * which is the layout of a Firestore export. The fields are read with {@link SummaryJson}.
+ *
+ * Reads are answered in the order {@link FirestoreSummaryStore} answers them, so both stores
+ * page through a search the same way. Saved summaries are only kept in memory, the fixtures are
+ * never written to. Summaries loaded from the fixtures have no update time, so their version is a
+ * hash of their fields. Reads do not lock, saves are made one at a time.
+ */
+public class LocalSummaryStore implements GarminSummaryStore {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(LocalSummaryStore.class);
+
+   /** Where {@link #fromClasspath()} looks for the fixtures. */
+   public static final String CLASSPATH_FIXTURES = "/fixtures/";
+
+   private static final String USER_METRIC = "g_userMetric";
+
+   // collection name -> document ID -> summary, documents in ID order
+   private final ConcurrentHashMap<String, ConcurrentSkipListMap<String, GarminSummary>> myCollections = new ConcurrentHashMap<String, ConcurrentSkipListMap<String, GarminSummary>>();
+   // collection name -> summaryId -> summary
+   private final ConcurrentHashMap<String, ConcurrentHashMap<String, GarminSummary>> mySummaryIds = new ConcurrentHashMap<String, ConcurrentHashMap<String, GarminSummary>>();
+   // generation|collection name|date field|user ID -> the user's summaries ordered like a search,
+   // built on first use. Every save starts a new generation, so an order built from the summaries
+   // before the save is never used after it.
+   private final AtomicLong myGeneration = new AtomicLong();
+   private final ConcurrentHashMap<String, List<GarminSummary>> mySearchOrders = new ConcurrentHashMap<String, List<GarminSummary>>();
+
+   /**
+    * @param theCollections the summaries of each collection, by collection name and then document ID
+    */
+   public LocalSummaryStore(Map<String, Map<String, GarminSummary>> theCollections) {
+      for (Map.Entry<String, Map<String, GarminSummary>> next : theCollections.entrySet()) {
+         ConcurrentHashMap<String, GarminSummary> bySummaryId = new ConcurrentHashMap<String, GarminSummary>();
+         for (GarminSummary summary : new TreeMap<String, GarminSummary>(next.getValue()).values()) {
+            String summaryId = summary.getString("summaryId");
+            // like the summaryId query, the first document with the summaryId wins
+            if (summaryId != null && !bySummaryId.containsKey(summaryId)) {
+               bySummaryId.put(summaryId, summary);
+            }
+         }
+         myCollections.put(next.getKey(), new ConcurrentSkipListMap<String, GarminSummary>(next.getValue()));
+         mySummaryIds.put(next.getKey(), bySummaryId);
+      }
+   }
+
+   /**
+    * Loads every *.json file of the directory as the collection of the same name.
+    */
+   public static LocalSummaryStore fromDirectory(File theDirectory) throws IOException {
+      File[] files = theDirectory.listFiles((dir, name) -> name.endsWith(".json"));
+      if (files == null) {
+         throw new IOException("Not a fixture directory: " + theDirectory);
+      }
+      Map<String, Map<String, GarminSummary>> collections = new HashMap<String, Map<String, GarminSummary>>();
+      for (File next : files) {
+         String collName = next.getName().substring(0, next.getName().length() - ".json".length());
+         try (InputStream in = new FileInputStream(next)) {
+            collections.put(collName, readCollection(collName, in));
+         }
+      }
+      return loaded(collections, theDirectory.getPath());
+   }
+
+   /**
+    * Loads the fixtures of the known collections and the user metrics from
+    * {@link #CLASSPATH_FIXTURES}. A collection without a fixture is empty.
+    */
+   public static LocalSummaryStore fromClasspath() throws IOException {
+      List<String> collNames = new ArrayList<String>();
+      for (GarminCollection next : GarminCollection.values()) {
+         collNames.add(next.getName());
+      }
+      collNames.add(USER_METRIC);
+
+      Map<String, Map<String, GarminSummary>> collections = new HashMap<String, Map<String, GarminSummary>>();
+      for (String next : collNames) {
+         try (InputStream in = LocalSummaryStore.class.getResourceAsStream(CLASSPATH_FIXTURES + next + ".json")) {
+            if (in != null) {
+               collections.put(next, readCollection(next, in));
+            }
+         }
+      }
+      return loaded(collections, "classpath:" + CLASSPATH_FIXTURES);
+   }
+
+   private static LocalSummaryStore loaded(Map<String, Map<String, GarminSummary>> theCollections, String theSource) {
+      int documents = 0;
+      for (Map<String, GarminSummary> next : theCollections.values()) {
+         documents += next.size();
+      }
+      ourLog.info("Loaded {} summaries in {} collections from {}", documents, theCollections.size(), theSource);
+      return new LocalSummaryStore(theCollections);
+   }
+
+   @Override
+   public ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId) {
+      return ApiFutures.immediateFuture(getSummaryIds(theCollName).get(theSummaryId));
+   }
+
+   /**
+    * The summaries are in memory, and without an update time their version is a hash of every
+    * field, so this is the whole summary.
+    */
+   @Override
+   public ApiFuture<GarminSummary> findSummaryVersion(String theCollName, String theSummaryId) {
+      return findSummary(theCollName, theSummaryId);
+   }
+
+   @Override
+   public ApiFuture<List<GarminSummary>> findSummaries(String theCollName, Collection<String> theSummaryIds) {
+      Map<String, GarminSummary> bySummaryId = getSummaryIds(theCollName);
+      List<GarminSummary> retVal = new ArrayList<GarminSummary>();
+      for (String next : theSummaryIds) {
+         GarminSummary summary = bySummaryId.get(next);
+         if (summary != null) {
+            retVal.add(summary);
+         }
+      }
+      return ApiFutures.immediateFuture(retVal);
+   }
+
+   @Override
+   public ApiFuture<List<GarminSummary>> searchSummaries(ObservationSearch.Target theTarget, String theUserId,
+         DateRangeParam theDate, GarminSummary theAfter, int theCount) {
+      String dateField = theTarget.getDateField();
+      Comparator<GarminSummary> order = searchOrder(dateField);
+      long lower = Long.MIN_VALUE;
+      long upper = Long.MAX_VALUE;
+      if (theDate != null) {
+         Date lowerBound = theDate.getLowerBoundAsInstant();
+         Date upperBound = theDate.getUpperBoundAsInstant();
+         if (lowerBound != null) {
+            lower = lowerBound.getTime() / 1000;
+         }
+         if (upperBound != null) {
+            upper = upperBound.getTime() / 1000;
+         }
+      }
+
+      List<GarminSummary> retVal = new ArrayList<GarminSummary>();
+      for (GarminSummary next : getSearchOrder(theTarget.getCollection().getName(), dateField, theUserId)) {
+         if (retVal.size() == theCount) {
+            break;
+         }
+         long date = next.getLong(dateField);
+         if (date < lower || (theAfter != null && order.compare(next, theAfter) <= 0)) {
+            continue;
+         }
+         if (date > upper) {
+            break;
+         }
+         retVal.add(next);
+      }
+      return ApiFutures.immediateFuture(retVal);
+   }
+
+   @Override
+   public ApiFuture<GarminSummary> findLatestUserMetric(String theUserId) {
+      List<GarminSummary> metrics = new ArrayList<GarminSummary>();
+      for (GarminSummary next : getCollection(USER_METRIC).values()) {
+         if (theUserId.equals(next.getString("user_id"))) {
+            metrics.add(next);
+         }
+      }
+      return ApiFutures.immediateFuture(FirestoreSummaryStore.newestUserMetric(metrics));
+   }
+
+   @Override
+   public synchronized ApiFuture<List<GarminSummary>> saveSummaries(String theCollName, List<GarminSummary> theSummaries) {
+      ConcurrentSkipListMap<String, GarminSummary> collection = myCollections.get(theCollName);
+      if (collection == null) {
+         myCollections.putIfAbsent(theCollName, new ConcurrentSkipListMap<String, GarminSummary>());
+         mySummaryIds.putIfAbsent(theCollName, new ConcurrentHashMap<String, GarminSummary>());
+         collection = myCollections.get(theCollName);
+      }
+      ConcurrentHashMap<String, GarminSummary> bySummaryId = mySummaryIds.get(theCollName);
+      // like Firestore, every write gives the documents a new update time, and so a new version
+      Date updateTime = new Date();
+      List<GarminSummary> retVal = new ArrayList<GarminSummary>(theSummaries.size());
+      for (GarminSummary written : theSummaries) {
+         GarminSummary next = new GarminSummary(written.getId(), written.getPath(), written.getData(), updateTime);
+         retVal.add(next);
+         GarminSummary replaced = collection.put(next.getId(), next);
+         if (replaced != null && replaced.getString("summaryId") != null) {
+            bySummaryId.remove(replaced.getString("summaryId"), replaced);
+         }
+         String summaryId = next.getString("summaryId");
+         if (summaryId != null) {
+            bySummaryId.put(summaryId, next);
+         }
+      }
+      myGeneration.incrementAndGet();
+      mySearchOrders.clear();
+      return ApiFutures.immediateFuture(retVal);
+   }
+
+   private Map<String, GarminSummary> getCollection(String theCollName) {
+      Map<String, GarminSummary> retVal = myCollections.get(theCollName);
+      return (retVal != null) ? retVal : Collections.<String, GarminSummary>emptyMap();
+   }
+
+   private Map<String, GarminSummary> getSummaryIds(String theCollName) {
+      Map<String, GarminSummary> retVal = mySummaryIds.get(theCollName);
+      return (retVal != null) ? retVal : Collections.<String, GarminSummary>emptyMap();
+   }
+
+   // The summaries of the user that have the date field, ordered by it and then by document ID.
+   // Summaries without the date field are left out, as Firestore leaves them out of an ordered query.
+   private List<GarminSummary> getSearchOrder(String theCollName, String theDateField, String theUserId) {
+      String key = myGeneration.get() + "|" + theCollName + "|" + theDateField + "|" + theUserId;
+      List<GarminSummary> retVal = mySearchOrders.get(key);
+      if (retVal == null) {
+         List<GarminSummary> summaries = new ArrayList<GarminSummary>();
+         for (GarminSummary next : getCollection(theCollName).values()) {
+            if (theUserId.equals(next.getString("user_id")) && next.get(theDateField) instanceof Number) {
+               summaries.add(next);
+            }
+         }
+         summaries.sort(searchOrder(theDateField));
+         mySearchOrders.putIfAbsent(key, Collections.unmodifiableList(summaries));
+         retVal = mySearchOrders.get(key);
+      }
+      return retVal;
+   }
+
+   private static Comparator<GarminSummary> searchOrder(String theDateField) {
+      return Comparator.<GarminSummary>comparingLong(next -> next.getLong(theDateField)).thenComparing(GarminSummary::getId);
+   }
+
+   private static Map<String, GarminSummary> readCollection(String theCollName, InputStream theInput) throws IOException {
+      // documents in ID order, as Firestore returns them when nothing else decides the order
+      Map<String, GarminSummary> retVal = new TreeMap<String, GarminSummary>();
+      JsonReader reader = new JsonReader(new InputStreamReader(theInput, StandardCharsets.UTF_8));
+      reader.beginObject();
+      while (reader.hasNext()) {
+         String id = reader.nextName();
+         @SuppressWarnings("unchecked")
+         Map<String, Object> data = (Map<String, Object>) SummaryJson.readValue(reader);
+         retVal.put(id, new GarminSummary(id, theCollName + "/" + id, data, null));
+      }
+      reader.endObject();
+      return retVal;
+   }
+}
@@ -0,0 +1,135 @@
+package ca.uhn.fhir.example;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * An immutable table from 32-bit MDC nomenclature codes to strings. The codes are held in a
+ * sorted primitive array with the strings in a parallel array, so a lookup is a binary search
+ * that neither boxes the code nor allocates. Tables are assembled with a {@link Builder} or
+ * read from a classpath resource with {@link #load(String, int)}.
+ */
+final class MdcTable {
+    static final MdcTable EMPTY = new MdcTable(new long[0], new String[0]);
+
+    private final long[] codes;
+    private final String[] values;
+
+    private MdcTable(long[] codes, String[] values) {
+        this.codes = codes;
+        this.values = values;
+    }
+
+    /**
+     * @param code the 32-bit nomenclature code
+     * @return the string stored for the code. null if not found.
+     */
+    String get(long code) {
+        int index = Arrays.binarySearch(codes, code);
+        return (index >= 0) ? values[index] : null;
+    }
+
+    /**
+     * Reads the table of one partition from a classpath resource. Each line of the resource is
+     * a 16-bit term code and its string separated by a single tab. Blank lines and lines
+     * starting with '#' are skipped.
+     *
+     * @param resourceName the classpath resource to read
+     * @param partition    the 16-bit partition the term codes of the resource belong to
+     * @return the table. {@link #EMPTY} if there is no such resource.
+     */
+    static MdcTable load(String resourceName, int partition) {
+        InputStream stream = MdcTable.class.getResourceAsStream(resourceName);
+        if (stream == null) {
+            return EMPTY;
+        }
+        Builder builder = new Builder();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab < 0) {
+                    throw new IllegalStateException("Malformed line in " + resourceName + ": " + line);
+                }
+                int termCode = Integer.parseInt(line.substring(0, tab));
+                builder.put(((long) partition << 16) + termCode, line.substring(tab + 1));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read " + resourceName, e);
+        }
+        return builder.build();
+    }
+
+    int size() {
+        return codes.length;
+    }
+
+    long codeAt(int index) {
+        return codes[index];
+    }
+
+    String valueAt(int index) {
+        return values[index];
+    }
+
+    /**
+     * Collects entries in any order and freezes them into a sorted {@link MdcTable}. As with a
+     * map, the last value added for a code wins.
+     */
+    static final class Builder {
+        private long[] codes = new long[256];
+        private String[] values = new String[256];
+        private int size;
+
+        Builder put(long code, String value) {
+            if (code < 0 || code > 0xFFFFFFFFL) {
+                throw new IllegalArgumentException("Not a 32-bit nomenclature code: " + code);
+            }
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+                values = Arrays.copyOf(values, size * 2);
+            }
+            codes[size] = code;
+            values[size] = value;
+            size++;
+            return this;
+        }
+
+        MdcTable build() {
+            // Pack each code with its insertion index so one primitive sort orders the entries
+            // by code and, within a code, by insertion order. A code of 2^31 or more sets the
+            // sign bit of its packed value, so the sign bit is flipped for the sort to order the
+            // packed values as unsigned.
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = ((codes[i] << 32) | i) ^ Long.MIN_VALUE;
+            }
+            Arrays.sort(packed);
+
+            long[] sortedCodes = new long[size];
+            String[] sortedValues = new String[size];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                packed[i] ^= Long.MIN_VALUE;
+                long code = packed[i] >>> 32;
+                String value = values[(int) packed[i]];
+                if (count > 0 && sortedCodes[count - 1] == code) {
+                    sortedValues[count - 1] = value;
+                } else {
+                    sortedCodes[count] = code;
+                    sortedValues[count] = value;
+                    count++;
+                }
+            }
+            return new MdcTable(Arrays.copyOf(sortedCodes, count), Arrays.copyOf(sortedValues, count));
+        }
+    }
+}
@@ -2,11 +2,21 @@
 package ca.uhn.fhir.example;
 import ca.uhn.fhir.example.Helper;
 import ca.uhn.fhir.example.RespRate;
-import ca.uhn.fhir.example.Mdc;
 
 // general fhir things
 import ca.uhn.fhir.rest.annotation.IdParam;
 import ca.uhn.fhir.rest.annotation.Read;
+import ca.uhn.fhir.rest.annotation.Search;
+import ca.uhn.fhir.rest.annotation.RequiredParam;
+import ca.uhn.fhir.rest.annotation.OptionalParam;
+import ca.uhn.fhir.rest.api.server.IBundleProvider;
+import ca.uhn.fhir.rest.api.server.RequestDetails;
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import ca.uhn.fhir.rest.param.ReferenceParam;
+import ca.uhn.fhir.rest.param.TokenOrListParam;
+import ca.uhn.fhir.rest.param.TokenParam;
+import ca.uhn.fhir.rest.server.exceptions.InternalErrorException;
+import org.hl7.fhir.instance.model.api.IAnyResource;
 import ca.uhn.fhir.rest.server.IResourceProvider;
 import ca.uhn.fhir.rest.server.exceptions.ResourceNotFoundException;
 import org.hl7.fhir.r4.model.IdType;
@@ -16,23 +26,17 @@ import org.hl7.fhir.instance.model.api.IBaseResource;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.ArrayList;
-import java.util.Date;
-import java.text.SimpleDateFormat;
-import java.util.concurrent.ExecutionException;
 import java.io.*;
 import java.util.Map.Entry;  
 
 //added to build different profiles
-import ca.uhn.fhir.model.api.annotation.Child;
-import ca.uhn.fhir.model.api.annotation.Description;
-import ca.uhn.fhir.model.api.annotation.Extension;
-import ca.uhn.fhir.model.api.annotation.ResourceDef;
-import ca.uhn.fhir.util.ElementUtil;
 import org.hl7.fhir.r4.model.DateTimeType;
 import org.hl7.fhir.r4.model.Observation;
 import org.hl7.fhir.r4.model.StringType;
-import ca.uhn.fhir.parser.IParser;
 import ca.uhn.fhir.context.FhirContext;
 import org.hl7.fhir.r4.model.Reference;
 import org.hl7.fhir.r4.model.CodeableConcept;
@@ -50,30 +54,126 @@ import org.hl7.fhir.r4.model.Annotation;
 import org.hl7.fhir.r4.model.MarkdownType;
 import org.hl7.fhir.r4.model.Observation.ObservationReferenceRangeComponent;
 
-// added to access firebase
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.Firestore;
-
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-
-import com.google.firebase.cloud.FirestoreClient;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
-import com.google.common.collect.ImmutableMap;
+// the Garmin summaries are read through a GarminSummaryStore
 import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Query;
-import com.google.cloud.firestore.CollectionReference;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
 
 public class ObservationResourceProvider implements IResourceProvider {
 
-   private Map<String, Observation> myObservations = new HashMap<String, Observation>();
-   private Firestore db;
+   private ResourceCache<Observation> myObservations;
+   private GarminSummaryStore myStore;
+   // parses the Observations materialized by SummaryIngester, null to always map the summary
+   private FhirContext myFhirContext;
+
+   // Component tables for the activity summaries, in the order the components are added.
+   // They are built once; see ComponentMapping for how each row is mapped. The common and daily
+   // tables are package-private for ComponentMappingBenchmark.
+
+   static final ComponentMapping[] COMMON_ACTIVITY_COMPONENTS = {
+      ComponentMapping.quantity("activeKilocalories", ComponentMapping.LOINC, "93819-1", "Calories burned in unspecified time --during activity",
+         ComponentMapping.ValueType.DOUBLE, "kcal", "Kilocalories"),
+      // careful: reading as LONG would truncate decimal places
+      ComponentMapping.quantity("distanceInMeters", ComponentMapping.LOINC, "55430-3", "Walking distance unspecified time Pedometer",
+         ComponentMapping.ValueType.DOUBLE, "m", "meters"),
+      ComponentMapping.count("steps", ComponentMapping.LOINC, "55423-8", "Number of steps in unspecified time Pedometer",
+         ComponentMapping.ValueType.LONG),
+      // average heart rate is not here because daily summaries have 2 different average heart rates
+      ComponentMapping.quantity("maxHeartRateInBeatsPerMinute", ComponentMapping.LOINC, "55426-1", "Heart rate unspecified time maximum by Pedometer",
+         ComponentMapping.ValueType.LONG, "bpm", "beats/min"),
+      ComponentMapping.quantity("minHeartRateInBeatsPerMinute", ComponentMapping.LOINC, "null", "Heart rate unspecified time minimum by Pedometer",
+         ComponentMapping.ValueType.LONG, "bpm", "beats/min")
+   };
+
+   static final ComponentMapping[] DAILY_COMPONENTS = {
+      ComponentMapping.quantity("activeTimeInSeconds", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_ACTIVITY_TIME"), "Active Time",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("restingHeartRateInBeatsPerMinute", ComponentMapping.LOINC, "55425-3", "Heart rate unspecified time mean by Pedometer",
+         ComponentMapping.ValueType.LONG, "bpm", "beats/min"),
+      ComponentMapping.quantity("averageHeartRateInBeatsPerMinute", ComponentMapping.LOINC, "55425-3", "Heart rate unspecified time mean by Pedometer (average of heart rate values captured during the last 7 days in this case)",
+         ComponentMapping.ValueType.LONG, "bpm", "beats/min"),
+      ComponentMapping.quantity("bmrKilocalories", ComponentMapping.LOINC, "41981-2", "Calories burned (by basal metabolic rate in this case)",
+         ComponentMapping.ValueType.LONG, "kcal", "Kilocalories"),
+      ComponentMapping.quantity("consumedCalories", ComponentMapping.LOINC, "9052-2", "Calorie intake total",
+         ComponentMapping.ValueType.LONG, "kcal", "Kilocalories"),
+      // Below are many Garmin-unique metrics
+      ComponentMapping.quantity("netKilocaloriesGoal", ComponentMapping.GARMIN, "net-Kilocalories-goal-code", "The user’s goal for net caloric intake (consumed calories minus active calories) for this monitoring period.",
+         ComponentMapping.ValueType.LONG, "kcal", "Kilocalories"),
+      ComponentMapping.count("floorsClimbed", ComponentMapping.GARMIN, "floors-climbed-code", "Number of floors climbed during the monitoring period.",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.count("floorsClimbedGoal", ComponentMapping.GARMIN, "floors-climbed-goal-code", "The user’s goal for floors climbed in this monitoring period.",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.count("stepsGoal", ComponentMapping.GARMIN, "steps-goal-code", "The user’s steps goal for this monitoring period.",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.quantity("moderateIntensityDurationInSeconds", ComponentMapping.GARMIN, "moderate-intensity-duration-code", "Duration of activities of moderate intensity, lasting at least 600 seconds at a time. Moderate intensity is defined as activity with MET value range 3-6.",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("vigorousIntensityDurationInSeconds", ComponentMapping.GARMIN, "vigorous-intensity-duration-code", "Duration of activities of vigorous intensity, lasting at least 600 seconds at a time. Vigorous intensity is defined as activity with MET value > 6.",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("intensityDurationGoalInSeconds", ComponentMapping.GARMIN, "intensity-duration-goal-code", "The user’s goal for consecutive seconds of moderate to vigorous intensity activity for this monitoring period.",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.count("averageStressLevel", ComponentMapping.GARMIN, "average-stress-code", "An abstraction of the user’s average stress level in this monitoring period, measured from 1 to 100, or -1 if there is not enough data to calculate average stress. ",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.count("maxStressLevel", ComponentMapping.GARMIN, "max-stress-code", "The highest stress level measurement taken during this monitoring period.",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.quantity("stressDurationInSeconds", ComponentMapping.GARMIN, "stress-duration-code", "The number of seconds in this monitoring period where stress level measurements were in the stressful range (26-100).",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("restStressDurationInSeconds", ComponentMapping.GARMIN, "rest-stress-duration-code", "The number of seconds in this monitoring period where stress level measurements were in the restful range (1 to 25).",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("activityStressDurationInSeconds", ComponentMapping.GARMIN, "activity-stress-duration-code", "The number of seconds in this monitoring period where the user was engaging in physical activity and so stress measurement was unreliable.",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("lowStressDurationInSeconds", ComponentMapping.GARMIN, "low-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the low range (26-50).",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("mediumStressDurationInSeconds", ComponentMapping.GARMIN, "medium-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the medium range (51-75).",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("highStressDurationInSeconds", ComponentMapping.GARMIN, "high-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the high range (76-100).",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.interpretation("stressQualifier", ComponentMapping.GARMIN, "stress-qualifier-code", "A qualitative label applied based on all stress measurements in this monitoring period. Possible values: unknown, calm, balanced, stressful, very_stressful, calm_awake, balanced_awake, stressful_awake, very_stressful_awake.")
+   };
+
+   private static final ComponentMapping[] ACTIVITY_COMPONENTS = {
+      ComponentMapping.quantity("averageHeartRateInBeatsPerMinute", ComponentMapping.LOINC, "55425-3", "Heart rate unspecified time mean by Pedometer",
+         ComponentMapping.ValueType.LONG, "bpm", "beats/min"),
+      ComponentMapping.count("startingLatitudeInDegree", ComponentMapping.LOINC, "91588-4", "Latitude Event",
+         ComponentMapping.ValueType.DOUBLE),
+      ComponentMapping.count("startingLongitudeInDegree", ComponentMapping.LOINC, "91589-2", "Longitude Event",
+         ComponentMapping.ValueType.DOUBLE),
+      ComponentMapping.quantity("averageRunCadenceInStepsPerMinute", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_CAD"), "The cadence over a period of time (average cadence in this case)",
+         ComponentMapping.ValueType.DOUBLE, "steps/min", "steps/min"),
+      ComponentMapping.quantity("maxRunCadenceInStepsPerMinute", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_CAD"), "The cadence over a period of time (max cadence in this case)",
+         ComponentMapping.ValueType.DOUBLE, "steps/min", "steps/min"),
+      // unable to find pace codings in either MDC or LOINC systems - for recording average pace in min/km and max pace in min/km
+      // but i think this is a just a different way to represent the speed, so pace can be calculated from speed
+      ComponentMapping.quantity("averageSpeedInMetersPerSecond", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_SPEED"), "The speed (average speed in this case)",
+         ComponentMapping.ValueType.DOUBLE, "m/s", "meters/second"),
+      ComponentMapping.quantity("maxSpeedInMetersPerSecond", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_SPEED"), "The speed (max speed in this case)",
+         ComponentMapping.ValueType.DOUBLE, "m/s", "meters/second"),
+      ComponentMapping.quantity("totalElevationGainInMeters", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_ALT_GAIN"), "Altitude gain",
+         ComponentMapping.ValueType.DOUBLE, "m", "meters"),
+      ComponentMapping.quantity("totalElevationLossInMeters", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_ALT_LOSS"), "Altitude loss",
+         ComponentMapping.ValueType.DOUBLE, "m", "meters")
+   };
+
+
+   public ObservationResourceProvider(GarminSummaryStore theStore) {
+      this(theStore, ResourceCache.DEFAULT_TIME_TO_LIVE_SECONDS);
+   }
+
+   /**
+    * @param theStalenessSeconds how long a mapped Observation is served from the cache before
+    *                            it is fetched from the store again
+    */
+   public ObservationResourceProvider(GarminSummaryStore theStore, long theStalenessSeconds) {
+      this(theStore, theStalenessSeconds, null);
+   }
 
-   public ObservationResourceProvider(Firestore _db) {
-      db = _db;
-      setDummyResp();  
+   /**
+    * @param theFhirContext used to read the Observation a summary was materialized to when it
+    *                       was ingested, instead of mapping the summary again
+    */
+   public ObservationResourceProvider(GarminSummaryStore theStore, long theStalenessSeconds, FhirContext theFhirContext) {
+      myStore = theStore;
+      myObservations = new ResourceCache<Observation>(ResourceCache.DEFAULT_MAXIMUM_SIZE, theStalenessSeconds);
+      myFhirContext = theFhirContext;
    }
 
    @Override
@@ -86,11 +186,27 @@ public class ObservationResourceProvider implements IResourceProvider {
     */
 
    @Read()
-   public Observation read(@IdParam IdType theId) {
-      QueryDocumentSnapshot document = Helper.searchForDocument(db, theId);
-      setResourceWrapper(document, theId);
-
+   public Observation read(@IdParam IdType theId, RequestDetails theRequestDetails) {
+      // Garmin summaries do not change once they are written, so a cached resource is
+      // returned without going back to the store until it is older than the staleness window
       Observation retVal = myObservations.get(theId.getIdPart());
+      Helper.checkNotModified(theRequestDetails, retVal);
+
+      if (retVal == null) {
+         if (theId.getIdPart().equals("1")) {
+            retVal = setDummyResp();
+         } else {
+            // chain the mapping onto the store lookup and only block once, for the result. A
+            // conditional read the client already has the summary for is answered after looking
+            // up only its version, before the summary is read and mapped.
+            ApiFuture<Observation> mapped = ApiFutures.transform(Helper.searchForModifiedDocumentAsync(myStore, theId, theRequestDetails),
+               document -> setResourceWrapper(document, theId), MoreExecutors.directExecutor());
+            retVal = Helper.awaitResult(mapped);
+         }
+         if (retVal != null) {
+            myObservations.put(theId.getIdPart(), retVal);
+         }
+      }
 
       if (retVal == null) {
          throw new ResourceNotFoundException(theId);
@@ -98,46 +214,200 @@ public class ObservationResourceProvider implements IResourceProvider {
       return retVal;
    }
 
-   private void setResourceWrapper(QueryDocumentSnapshot document, @IdParam IdType theId) {
+   /**
+    * Searches the Garmin summaries of one patient, optionally narrowed by code, category and the
+    * start time of the summary, e.g.
+    * Observation?subject=Patient/g2&code=http://loinc.org|2708-6&date=ge2021-03-01&date=lt2021-03-08
+    *
+    * The results are read from the store a page at a time as the client pages through them,
+    * see SummaryBundleProvider. The Observations are cached as if they had been read one by one.
+    */
+   @Search()
+   public IBundleProvider search(
+         @RequiredParam(name = Observation.SP_SUBJECT) ReferenceParam theSubject,
+         @OptionalParam(name = Observation.SP_CODE) TokenOrListParam theCode,
+         @OptionalParam(name = Observation.SP_CATEGORY) TokenOrListParam theCategory,
+         @OptionalParam(name = Observation.SP_DATE) DateRangeParam theDate) {
+      List<ObservationSearch.Target> targets = ObservationSearch.selectTargets(theCode, theCategory);
+      return new SummaryBundleProvider(myStore, targets, theSubject.getIdPart(), theDate, this::mapDocument, null);
+   }
+
+   /**
+    * Reads many Observations in one request, e.g. Observation?_id=g_epoch:x1,g_epoch:x2,g_daily:y1
+    *
+    * Cached Observations are returned straight away. The IDs that are left are grouped by
+    * collection, and each collection is read with as few round trips as possible, see
+    * GarminSummaryStore.findSummaries. All collections are read and mapped at the same time.
+    * IDs that match nothing are left out of the result, which keeps the order of the request.
+    */
+   @Search()
+   public List<Observation> searchById(@RequiredParam(name = IAnyResource.SP_RES_ID) TokenOrListParam theIds) {
+      Set<String> requested = new LinkedHashSet<String>();
+      for (TokenParam next : theIds.getValuesAsQueryTokens()) {
+         requested.add(new IdType(next.getValue()).getIdPart());
+      }
+
+      Map<String, Observation> found = new HashMap<String, Observation>();
+      Map<String, List<String>> summaryIdsByCollection = new LinkedHashMap<String, List<String>>();
+      for (String next : requested) {
+         Observation cached = myObservations.get(next);
+         if (cached != null) {
+            found.put(next, cached);
+            continue;
+         }
+         if (next.equals("1")) {
+            found.put(next, setDummyResp());
+            continue;
+         }
+         String[] idParts = next.split(":");
+         if (idParts.length != 2 || GarminCollection.fromName(idParts[0]) == null) {
+            continue;
+         }
+         List<String> summaryIds = summaryIdsByCollection.get(idParts[0]);
+         if (summaryIds == null) {
+            summaryIds = new ArrayList<String>();
+            summaryIdsByCollection.put(idParts[0], summaryIds);
+         }
+         summaryIds.add(idParts[1]);
+      }
+
+      List<ApiFuture<List<Observation>>> reads = new ArrayList<ApiFuture<List<Observation>>>();
+      for (Map.Entry<String, List<String>> next : summaryIdsByCollection.entrySet()) {
+         String collName = next.getKey();
+         reads.add(ApiFutures.transform(myStore.findSummaries(collName, next.getValue()), documents -> {
+            List<Observation> mapped = new ArrayList<Observation>(documents.size());
+            for (GarminSummary document : documents) {
+               Observation observation = mapDocument(collName, document);
+               if (observation != null) {
+                  mapped.add(observation);
+               }
+            }
+            return mapped;
+         }, MoreExecutors.directExecutor()));
+      }
+      if (!reads.isEmpty()) {
+         List<List<Observation>> results = Helper.awaitResult(ApiFutures.allAsList(reads));
+         if (results == null) {
+            throw new InternalErrorException("Failed to read the Observations from the summary store");
+         }
+         for (List<Observation> next : results) {
+            for (Observation observation : next) {
+               found.put(observation.getIdElement().getIdPart(), observation);
+            }
+         }
+      }
+
+      List<Observation> retVal = new ArrayList<Observation>(found.size());
+      for (String next : requested) {
+         Observation observation = found.get(next);
+         if (observation != null) {
+            retVal.add(observation);
+         }
+      }
+      return retVal;
+   }
+
+   /**
+    * Maps a summary of a collection to its Observation and caches it as if it had been read.
+    *
+    * @return the Observation, or null if the summary has no summaryId or is not mapped to one
+    */
+   Observation mapDocument(String theCollName, GarminSummary theDocument) {
+      String summaryId = theDocument.getString("summaryId");
+      if (summaryId == null) {
+         return null;
+      }
+      IdType id = new IdType("Observation", theCollName + ":" + summaryId);
+      Observation mapped = setResourceWrapper(theDocument, id);
+      if (mapped != null) {
+         myObservations.put(id.getIdPart(), mapped);
+      }
+      return mapped;
+   }
+
+   /**
+    * Maps a summary of a collection to its Observation, without caching it and without a version,
+    * which the summary only has once it is written, see {@link #putWritten}.
+    *
+    * @return the Observation, or null if the summary has no summaryId or is not mapped to one
+    */
+   Observation mapUnwritten(String theCollName, GarminSummary theDocument) {
+      String summaryId = theDocument.getString("summaryId");
+      GarminCollection collection = GarminCollection.fromName(theCollName);
+      if (summaryId == null || collection == null) {
+         return null;
+      }
+      return mapSummary(collection, theDocument, new IdType("Observation", theCollName + ":" + summaryId));
+   }
+
+   /**
+    * Caches the Observation a summary was mapped to by {@link #mapUnwritten}, once the summary is
+    * written, with the version the store gave it, as if it had been read.
+    */
+   void putWritten(String theCollName, GarminSummary theWritten, Observation theObservation) {
+      myObservations.put(theCollName + ":" + theWritten.getString("summaryId"), Helper.setVersion(theObservation, theWritten));
+   }
+
+   /**
+    * Removes a resource from the cache so that the next read fetches it from the store again,
+    * for example after the Garmin summary behind it was re-written.
+    */
+   public void invalidate(IdType theId) {
+      myObservations.invalidate(theId.getIdPart());
+   }
+
+   public void invalidateAll() {
+      myObservations.invalidateAll();
+   }
+
+   private Observation setResourceWrapper(GarminSummary document, @IdParam IdType theId) {
       if (document == null) {
-         return;
+         return null;
       }
 
       String[] theIdParts = theId.getIdPart().split(":");
       
       if (theIdParts.length != 2) {
-         return;
+         return null;
       }
 
       String collName = theIdParts[0];
-      String theSummaryId = theIdParts[1];
-
-      switch (collName.toLowerCase()) {
-         case "g_respiration": 
-            setRespRateResource(theId, document);
-            break;
-         case "g_pulseOx":
-            setPulseOxResource(theId, document);
-            break;
-         case "g_stress":
-            setStressResource(theId, document);
-            break;
-         case "g_epoch":
-            setEpochResource(theId, document);
-            break;
-         case "g_activity":
-            setActivityResource(theId, document);
-            break;
-         case "g_daily":
-            setDailyResource(theId, document);
-            break;
-         case "g_activitydetail":
-            setActivityDetailResource(theId, document);
-            break;
-         case "g_sleep":
-            setSleepResource(theId, document);
-            break;
+
+      GarminCollection collection = GarminCollection.fromName(collName);
+      if (collection == null) {
+         return null;
       }
+
+      Observation retVal = mapSummary(collection, document, theId);
+      return (retVal != null) ? Helper.setVersion(retVal, document) : null;
+   }
+
+   private Observation mapSummary(GarminCollection collection, GarminSummary document, IdType theId) {
+      // materialized by SummaryIngester from the same mapping as below, so it only needs parsing
+      String fhirJson = document.getString(GarminSummary.FHIR_JSON);
+      if (fhirJson != null && myFhirContext != null) {
+         return myFhirContext.newJsonParser().parseResource(Observation.class, fhirJson);
+      }
+
+      switch (collection) {
+         case RESPIRATION: 
+            return setRespRateResource(theId, document);
+         case PULSE_OX:
+            return setPulseOxResource(theId, document);
+         case STRESS:
+            return setStressResource(theId, document);
+         case EPOCH:
+            return setEpochResource(theId, document);
+         case ACTIVITY:
+            return setActivityResource(theId, document);
+         case DAILY:
+            return setDailyResource(theId, document);
+         case ACTIVITY_DETAIL:
+            return setActivityDetailResource(theId, document);
+         case SLEEP:
+            return setSleepResource(theId, document);
+      }
+      return null;
    }
 
    private void setDummyRespWithExtension() {
@@ -149,7 +419,7 @@ public class ObservationResourceProvider implements IResourceProvider {
       myObservations.put("2", theResp);
    }
 
-   private void setDummyResp() {
+   private Observation setDummyResp() {
       RespRate myResp = new RespRate();
       Reference patientReference = new Reference("Patient/g2");
       myResp.setSubject(patientReference);
@@ -163,15 +433,15 @@ public class ObservationResourceProvider implements IResourceProvider {
       mySampledData.setData("14.2 17.8 19.2");
       myResp.setValue(mySampledData);
       //myResp.setValue(new Quantity(null,26,"http://unitsofmeasure.org","/min","breaths/min"));
-      Long unixTimeStamp = Long.parseLong("1616442865");
-      DateTimeType myEffectiveDateTime = new DateTimeType(Helper.formatDate(unixTimeStamp));
+      // 2021-03-22, written in the wearer's local time of UTC-7
+      DateTimeType myEffectiveDateTime = Helper.toDateTime(1616442865L, -7 * 60 * 60);
       myResp.setEffective(myEffectiveDateTime);
       myResp.setCode(new CodeableConcept(new Coding("http://loinc.org","9279-1","Respiratory rate")));
       
-      myObservations.put("1", myResp);
+      return myResp;
    }
 
-   private void setActivityDetailResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setActivityDetailResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
       myObs.setId(theId.getIdPart());
       myObs.setStatus(ObservationStatus.FINAL);
@@ -185,11 +455,11 @@ public class ObservationResourceProvider implements IResourceProvider {
 
       // TODO: fill in the rest 
 
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
 
    }
 
-   private void setSleepResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setSleepResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
       myObs.setId(theId.getIdPart());
       myObs.setStatus(ObservationStatus.FINAL);
@@ -203,10 +473,10 @@ public class ObservationResourceProvider implements IResourceProvider {
 
       // TODO: fill in the rest
 
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
    }
 
-   private void setDailyResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setDailyResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
       myObs.setId(theId.getIdPart());
       myObs.setStatus(ObservationStatus.FINAL);
@@ -230,7 +500,7 @@ public class ObservationResourceProvider implements IResourceProvider {
       }
 
       if (document.get("timeOffsetHeartRateSamples") != null) {
-         HashMap <String, Long> measurements = (HashMap)document.get("timeOffsetHeartRateSamples");
+         Map<String, Object> measurements = (Map<String, Object>) document.get("timeOffsetHeartRateSamples");
 
          Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
             new CodeableConcept(new Coding("http://loinc.org","8867-4","Heart rate")));
@@ -239,212 +509,22 @@ public class ObservationResourceProvider implements IResourceProvider {
          Double milliSecondsBetweenMeasurements = secondsBetweenMeasurements*1000;
          SampledData mySampledData = new SampledData​(new Quantity(0.0), new DecimalType(milliSecondsBetweenMeasurements), new PositiveIntType(1));
          
-         // put measurements in order and grab all the values in order.
-         HashMap <String, Long> sortedMeasurements = Helper.sortMapByKeyStringToLong(measurements);
-         
-         String timeSeriesData = "";
-         int counter = 0;
-         String firstKey = "";
-
-         for (Entry<String, Long> entry : sortedMeasurements.entrySet())   {
-            if (counter == 0) {
-               firstKey = entry.getKey();
-            }  
-            timeSeriesData+=entry.getValue();
-            timeSeriesData += " ";
-            // System.out.println(entry.getKey() +"\t"+entry.getValue());  
-            counter++;
-         
-         }
-         timeSeriesData = timeSeriesData.substring(0, timeSeriesData.length() - 1);
-
-         mySampledData.setData(timeSeriesData);
+         // put measurements in order of their time offset
+         TimeSeries series = TimeSeries.ofLongs(measurements);
+         mySampledData.setData(series.encode(secondsBetweenMeasurements.longValue()));
 
          measurementObs.setValue(mySampledData);
          theComponentList.add(measurementObs);
       }
 
-      if (document.get("activeTimeInSeconds") != null) {
-         Long measurement = document.getLong("activeTimeInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(Mdc.get32BitCodeFromReferenceId("MDC_HF_ACTIVITY_TIME")),"Active Time")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("restingHeartRateInBeatsPerMinute") != null) {
-         Long avgBPM = document.getLong("restingHeartRateInBeatsPerMinute");
-         Observation.ObservationComponentComponent avgBPMObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55425-3","Heart rate unspecified time mean by Pedometer")));
-         avgBPMObservation.setValue(new Quantity(null, avgBPM, "http://unitsofmeasure.org", "bpm","beats/min"));       
-         theComponentList.add(avgBPMObservation);
-      }
-
-      if (document.get("averageHeartRateInBeatsPerMinute") != null) {
-         Long measurement = document.getLong("averageHeartRateInBeatsPerMinute");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55425-3","Heart rate unspecified time mean by Pedometer (average of heart rate values captured during the last 7 days in this case)")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "bpm","beats/min"));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("bmrKilocalories") != null) {
-         Long measurement = document.getLong("bmrKilocalories");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","41981-2","Calories burned (by basal metabolic rate in this case)")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "kcal","Kilocalories"));       
-         theComponentList.add(measurementObs);
-      }
-      
-      if (document.get("consumedCalories") != null) {
-         Long measurement = document.getLong("consumedCalories");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","9052-2","Calorie intake total")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "kcal","Kilocalories"));       
-         theComponentList.add(measurementObs);
-      }
-      
-      // Below are many Garmin-unique metrics  
-
-      if (document.get("netKilocaloriesGoal") != null) {
-         Long measurement = document.getLong("netKilocaloriesGoal");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","net-Kilocalories-goal-code","The user’s goal for net caloric intake (consumed calories minus active calories) for this monitoring period.")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "kcal","Kilocalories"));       
-         theComponentList.add(measurementObs);
-      }
-      
-      if (document.get("floorsClimbed") != null) {
-         Long measurement = document.getLong("floorsClimbed");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","floors-climbed-code","Number of floors climbed during the monitoring period.")));
-         measurementObs.setValue(new Quantity(measurement));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("floorsClimbedGoal") != null) {
-         Long measurement = document.getLong("floorsClimbedGoal");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","floors-climbed-goal-code","The user’s goal for floors climbed in this monitoring period.")));
-         measurementObs.setValue(new Quantity(measurement));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("stepsGoal") != null) {
-         Long numSteps = document.getLong("stepsGoal");
-         Observation.ObservationComponentComponent stepsObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","steps-goal-code","The user’s steps goal for this monitoring period.")));
-         stepsObservation.setValue(new Quantity(numSteps));
-         theComponentList.add(stepsObservation);
-      }
-
-      if (document.get("moderateIntensityDurationInSeconds") != null) {
-         Long measurement = document.getLong("moderateIntensityDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","moderate-intensity-duration-code","Duration of activities of moderate intensity, lasting at least 600 seconds at a time. Moderate intensity is defined as activity with MET value range 3-6.")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("vigorousIntensityDurationInSeconds") != null) {
-         Long measurement = document.getLong("vigorousIntensityDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","vigorous-intensity-duration-code","Duration of activities of vigorous intensity, lasting at least 600 seconds at a time. Vigorous intensity is defined as activity with MET value > 6.")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("intensityDurationGoalInSeconds") != null) {
-         Long measurement = document.getLong("intensityDurationGoalInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","intensity-duration-goal-code","The user’s goal for consecutive seconds of moderate to vigorous intensity activity for this monitoring period.")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("averageStressLevel") != null) {
-         Long measurement = document.getLong("averageStressLevel");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","average-stress-code","An abstraction of the user’s average stress level in this monitoring period, measured from 1 to 100, or -1 if there is not enough data to calculate average stress. ")));
-         measurementObs.setValue(new Quantity(measurement));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("maxStressLevel") != null) {
-         Long measurement = document.getLong("maxStressLevel");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","max-stress-code","The highest stress level measurement taken during this monitoring period.")));
-         measurementObs.setValue(new Quantity(measurement));
-         theComponentList.add(measurementObs);
-      }
-
-
-      if (document.get("stressDurationInSeconds") != null) {
-         Long measurement = document.getLong("stressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","stress-duration-code","The number of seconds in this monitoring period where stress level measurements were in the stressful range (26-100).")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("restStressDurationInSeconds") != null) {
-         Long measurement = document.getLong("restStressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","rest-stress-duration-code","The number of seconds in this monitoring period where stress level measurements were in the restful range (1 to 25).")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("activityStressDurationInSeconds") != null) {
-         Long measurement = document.getLong("activityStressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","activity-stress-duration-code","The number of seconds in this monitoring period where the user was engaging in physical activity and so stress measurement was unreliable.")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("lowStressDurationInSeconds") != null) {
-         Long measurement = document.getLong("lowStressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","low-stress-duration-code","The portion of the user’s stress duration where the measured stress score was in the low range (26-50).")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("mediumStressDurationInSeconds") != null) {
-         Long measurement = document.getLong("mediumStressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","medium-stress-duration-code","The portion of the user’s stress duration where the measured stress score was in the medium range (51-75).")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-      
-      if (document.get("highStressDurationInSeconds") != null) {
-         Long measurement = document.getLong("highStressDurationInSeconds");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("https://connect.garmin.com/","high-stress-duration-code","The portion of the user’s stress duration where the measured stress score was in the high range (76-100).")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec","seconds"));
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("stressQualifier") != null) {
-         String measurement = document.getString("stressQualifier");
-         CodeableConcept stressQualifierCode = new CodeableConcept(new Coding("https://connect.garmin.com/","stress-qualifier-code","A qualitative label applied based on all stress measurements in this monitoring period. Possible values: unknown, calm, balanced, stressful, very_stressful, calm_awake, balanced_awake, stressful_awake, very_stressful_awake."));
-         stressQualifierCode.setText(measurement);
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent();
-         measurementObs.setInterpretation(new ArrayList<CodeableConcept>(){{
-            add(stressQualifierCode);
-         }});
-         theComponentList.add(measurementObs);
-      }
-
+      ComponentMapping.mapAll(DAILY_COMPONENTS, document, theComponentList);
 
       myObs.setComponent(theComponentList);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
 
    }
 
-   private void setActivityResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setActivityResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
       myObs.setId(theId.getIdPart());
       myObs.setStatus(ObservationStatus.FINAL);
@@ -470,97 +550,15 @@ public class ObservationResourceProvider implements IResourceProvider {
 
       theComponentList = setCommonActivityComponents(theComponentList, document);
       
-      if (document.get("averageHeartRateInBeatsPerMinute") != null) {
-         Long avgBPM = document.getLong("averageHeartRateInBeatsPerMinute");
-         Observation.ObservationComponentComponent avgBPMObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55425-3","Heart rate unspecified time mean by Pedometer")));
-         avgBPMObservation.setValue(new Quantity(null, avgBPM, "http://unitsofmeasure.org", "bpm","beats/min"));       
-         theComponentList.add(avgBPMObservation);
-      }
-
-      if (document.get("startingLatitudeInDegree") != null) {
-         Double startingLat = document.getDouble("startingLatitudeInDegree");
-         Observation.ObservationComponentComponent latObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","91588-4","Latitude Event")));
-           
-         latObservation.setValue(new Quantity(startingLat));       
-         theComponentList.add(latObservation);
-      }
-
-      if (document.get("startingLongitudeInDegree") != null) {
-         Double startingLat = document.getDouble("startingLongitudeInDegree");
-         Observation.ObservationComponentComponent longObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","91589-2","Longitude Event")));
-           
-         longObservation.setValue(new Quantity(startingLat));       
-         theComponentList.add(longObservation);
-      }
-
-      if (document.get("averageRunCadenceInStepsPerMinute") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_CAD");
-         Double averageCadence = document.getDouble("averageRunCadenceInStepsPerMinute");
-         Observation.ObservationComponentComponent avgCadenceObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"The cadence over a period of time (average cadence in this case)")));
-         avgCadenceObs.setValue(new Quantity(null, averageCadence, "http://unitsofmeasure.org", "steps/min","steps/min"));       
-         theComponentList.add(avgCadenceObs);
-      }
-
-      if (document.get("maxRunCadenceInStepsPerMinute") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_CAD");
-         Double maxCadence = document.getDouble("maxRunCadenceInStepsPerMinute");
-         Observation.ObservationComponentComponent maxCadenceObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"The cadence over a period of time (max cadence in this case)")));
-         maxCadenceObs.setValue(new Quantity(null, maxCadence, "http://unitsofmeasure.org", "steps/min","steps/min"));       
-         theComponentList.add(maxCadenceObs);
-      }
-
-
-      // unable to find pace codings in either MDC or LOINC systems - for recording average pace in min/km and max pace in min/km
-      // but i think this is a just a different way to represent the speed, so pace can be calculated from speed 
-
-      if (document.get("averageSpeedInMetersPerSecond") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_SPEED");
-         Double measurement = document.getDouble("averageSpeedInMetersPerSecond");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"The speed (average speed in this case)")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "m/s","meters/second"));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("maxSpeedInMetersPerSecond") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_SPEED");
-         Double measurement = document.getDouble("maxSpeedInMetersPerSecond");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"The speed (max speed in this case)")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "m/s","meters/second"));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("totalElevationGainInMeters") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_ALT_GAIN");
-         Double measurement = document.getDouble("totalElevationGainInMeters");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"Altitude gain")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "m","meters"));       
-         theComponentList.add(measurementObs);
-      }
-
-      if (document.get("totalElevationLossInMeters") != null) {
-         Long code = Mdc.get32BitCodeFromReferenceId("MDC_HF_ALT_LOSS");
-         Double measurement = document.getDouble("totalElevationLossInMeters");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101",String.valueOf(code),"Altitude loss")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "m","meters"));       
-         theComponentList.add(measurementObs);
-      }
+      ComponentMapping.mapAll(ACTIVITY_COMPONENTS, document, theComponentList);
 
       myObs.setComponent(theComponentList);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
 
    }
 
 
-   private void setEpochResource(@IdParam IdType theId, QueryDocumentSnapshot document) { 
+   private Observation setEpochResource(@IdParam IdType theId, GarminSummary document) { 
       Observation myObs = new Observation();
       myObs.setId(theId.getIdPart());
       myObs.setStatus(ObservationStatus.FINAL);
@@ -661,11 +659,11 @@ public class ObservationResourceProvider implements IResourceProvider {
 
       myObs.setNote(notes);
       myObs.setComponent(theComponentList);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
       
    }
 
-   private List<Observation.ObservationComponentComponent> setCommonActivityComponents(List<Observation.ObservationComponentComponent> theComponentList, QueryDocumentSnapshot document) {
+   private List<Observation.ObservationComponentComponent> setCommonActivityComponents(List<Observation.ObservationComponentComponent> theComponentList, GarminSummary document) {
       if (document.get("activityType") != null) {
          ActivityType a = new ActivityType(document.getString("activityType"));
          CodeableConcept myCoding = a.getActivityCoding();
@@ -674,60 +672,13 @@ public class ObservationResourceProvider implements IResourceProvider {
          }
       }
 
-      if (document.get("activeKilocalories") != null) {
-         Double activeCalories = document.getDouble("activeKilocalories");
-         Observation.ObservationComponentComponent distanceObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","93819-1","Calories burned in unspecified time --during activity")));
-           
-         distanceObservation.setValue(new Quantity(null, activeCalories, "http://unitsofmeasure.org", "kcal","Kilocalories"));       
-         theComponentList.add(distanceObservation);
-      }
-
-      // careful: using .longValue() will truncate decimal places
-      if (document.get("distanceInMeters") != null) {
-         Double numSteps = document.getDouble("distanceInMeters");
-         Observation.ObservationComponentComponent distanceObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55430-3","Walking distance unspecified time Pedometer")));
-           
-         distanceObservation.setValue(new Quantity(null, numSteps, "http://unitsofmeasure.org", "m","meters"));       
-         theComponentList.add(distanceObservation);
-      }
-
-      if (document.get("steps") != null) {
-         Long numSteps = document.getLong("steps");
-         
-         Observation.ObservationComponentComponent stepsObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55423-8","Number of steps in unspecified time Pedometer")));
-           
-         stepsObservation.setValue(new Quantity(numSteps));
-         
-         theComponentList.add(stepsObservation);
-      }
-
-      // removed average heart rate from here because daily summaries has 2 different average heart rates
-
-      if (document.get("maxHeartRateInBeatsPerMinute") != null) {
-         Long maxBPM = document.getLong("maxHeartRateInBeatsPerMinute");
-         Observation.ObservationComponentComponent maxBPMObservation = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","55426-1","Heart rate unspecified time maximum by Pedometer")));
-         maxBPMObservation.setValue(new Quantity(null, maxBPM, "http://unitsofmeasure.org", "bpm","beats/min"));       
-         theComponentList.add(maxBPMObservation);
-      }
-
-      if (document.get("minHeartRateInBeatsPerMinute") != null) {
-         Long measurement = document.getLong("minHeartRateInBeatsPerMinute");
-         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
-            new CodeableConcept(new Coding("http://loinc.org","null","Heart rate unspecified time minimum by Pedometer")));
-         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "bpm","beats/min"));       
-         theComponentList.add(measurementObs);
-      }
-
+      ComponentMapping.mapAll(COMMON_ACTIVITY_COMPONENTS, document, theComponentList);
 
       return theComponentList;
 
    }
 
-   private void setRespRateResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setRespRateResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
 
       Meta myMeta = new Meta();
@@ -736,7 +687,7 @@ public class ObservationResourceProvider implements IResourceProvider {
 
       String startTime = document.get("startTimeInSeconds").toString();
       String localOffset = document.get("startTimeOffsetInSeconds").toString();
-      HashMap <String, Double> measurements = (HashMap)document.get("timeOffsetEpochToBreaths");
+      Map<String, Object> measurements = (Map<String, Object>) document.get("timeOffsetEpochToBreaths");
 
       
       //Quantity myQuantity = new Quantity(null,value,"http://unitsofmeasure.org","/min","breaths/min");
@@ -745,44 +696,27 @@ public class ObservationResourceProvider implements IResourceProvider {
       Double milliSecondsBetweenMeasurements = secondsBetweenMeasurements*1000;
       SampledData mySampledData = new SampledData​(new Quantity(0.0), new DecimalType(milliSecondsBetweenMeasurements), new PositiveIntType(1));
       
-      // put measurements in order and grab all the values in order.
-      HashMap <String, Double> sortedMeasurements = Helper.sortMapByKeyStringToDouble(measurements);
-      
-      String timeSeriesData = "";
-      int counter = 0;
-      String firstKey = "";
-      for (Entry<String, Double> entry : sortedMeasurements.entrySet())   {
-         if (counter == 0) {
-            firstKey = entry.getKey();
-         }  
-         timeSeriesData+=entry.getValue();
-         timeSeriesData += " ";
-         System.out.println(entry.getKey() +"\t"+entry.getValue());  
-         counter++;
-      
-      }
-      timeSeriesData = timeSeriesData.substring(0, timeSeriesData.length() - 1);
-
-      mySampledData.setData(timeSeriesData);
+      // put measurements in order of their time offset
+      TimeSeries series = TimeSeries.ofDoubles(measurements);
+      long firstOffset = series.isEmpty() ? 0 : series.getOffset(0);
+      mySampledData.setData(series.encode(secondsBetweenMeasurements.longValue()));
 
-      Long unixTimeStamp = Long.parseLong(startTime) + Long.parseLong(localOffset) + Long.parseLong(firstKey);
-      DateTimeType myEffectiveDateTime = new DateTimeType(Helper.formatDate(unixTimeStamp));
+      DateTimeType myEffectiveDateTime = Helper.toDateTime(Long.parseLong(startTime) + firstOffset, Long.parseLong(localOffset));
 
       myObs = setCommonVitalsFields(myObs, document, theId, myEffectiveDateTime, mySampledData, myMeta, myCode);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
    }
 
-   private void setPulseOxResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setPulseOxResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
 
       Meta myMeta = new Meta();
       myMeta.addProfile("http://hl7.org/fhir/StructureDefinition/oxygensat");
       CodeableConcept myCode = new CodeableConcept(new Coding("http://loinc.org","2708-6","Oxygen saturation"));
-      HashMap <String, Long> measurements = (HashMap)document.get("timeOffsetSpo2Values");
+      Map<String, Object> measurements = (Map<String, Object>) document.get("timeOffsetSpo2Values");
 
       if (measurements == null) {
-         myObservations.put(theId.getIdPart(), myObs);
-         return;
+         return myObs;
       }
 
       String startTime = document.get("startTimeInSeconds").toString();
@@ -792,25 +726,10 @@ public class ObservationResourceProvider implements IResourceProvider {
       Double milliSecondsBetweenMeasurements = secondsBetweenMeasurements*1000;
       SampledData mySampledData = new SampledData​(new Quantity(0.0), new DecimalType(milliSecondsBetweenMeasurements), new PositiveIntType(1));
       
-      // put measurements in order and grab all the values in order.
-      HashMap <String, Long> sortedMeasurements = Helper.sortMapByKeyStringToLong(measurements);
-      
-      String timeSeriesData = "";
-      int counter = 0;
-      String firstKey = "";
-      for (Entry<String, Long> entry : sortedMeasurements.entrySet())   {
-         if (counter == 0) {
-            firstKey = entry.getKey();
-         }  
-         timeSeriesData+=entry.getValue();
-         timeSeriesData += " ";
-         System.out.println(entry.getKey() +"\t"+entry.getValue());  
-         counter++;
-      
-      }
-      timeSeriesData = timeSeriesData.substring(0, timeSeriesData.length() - 1);
-
-      mySampledData.setData(timeSeriesData);
+      // put measurements in order of their time offset
+      TimeSeries series = TimeSeries.ofLongs(measurements);
+      long firstOffset = series.isEmpty() ? 0 : series.getOffset(0);
+      mySampledData.setData(series.encode(secondsBetweenMeasurements.longValue()));
 
       // This fetches a random entry
       // Map.Entry<String,Long> entry = measurements.entrySet().iterator().next();
@@ -820,13 +739,11 @@ public class ObservationResourceProvider implements IResourceProvider {
       // System.out.println("Time offset: " + key);
       // System.out.println("SpO2 value: " + value);
 
-      Long unixTimeStamp = Long.parseLong(startTime) + Long.parseLong(localOffset) + Long.parseLong(firstKey);
-
-      DateTimeType myEffectiveDateTime = new DateTimeType(Helper.formatDate(unixTimeStamp));
+      DateTimeType myEffectiveDateTime = Helper.toDateTime(Long.parseLong(startTime) + firstOffset, Long.parseLong(localOffset));
       //Quantity myQuantity = new Quantity(null,value,"http://unitsofmeasure.org","%","%");
 
       myObs = setCommonVitalsFields(myObs, document, theId, myEffectiveDateTime, mySampledData, myMeta, myCode);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
    }
 
    // Garmin stress numbers are "derived based on a combination of many device sensors and 
@@ -836,15 +753,14 @@ public class ObservationResourceProvider implements IResourceProvider {
    // a LOINC coding system for this, which is required to be part of a vitals signs profile. 
    // I do not have units either. 
    // Use a "best effort" approach - create a new Garmin coding 
-   private void setStressResource(@IdParam IdType theId, QueryDocumentSnapshot document) {
+   private Observation setStressResource(@IdParam IdType theId, GarminSummary document) {
       Observation myObs = new Observation();
 
       CodeableConcept myCode = new CodeableConcept(new Coding("https://connect.garmin.com/","stress-code","Stress Summaries"));
-      HashMap <String, Long> measurements = (HashMap)document.get("timeOffsetStressLevelValues");
+      Map<String, Object> measurements = (Map<String, Object>) document.get("timeOffsetStressLevelValues");
 
       if (measurements == null) {
-         myObservations.put(theId.getIdPart(), myObs);
-         return;
+         return myObs;
       }
 
       String startTime = document.get("startTimeInSeconds").toString();
@@ -854,38 +770,20 @@ public class ObservationResourceProvider implements IResourceProvider {
       Double milliSecondsBetweenMeasurements = secondsBetweenMeasurements*1000;
       SampledData mySampledData = new SampledData​(new Quantity(0.0), new DecimalType(milliSecondsBetweenMeasurements), new PositiveIntType(1));
       
-      // put measurements in order and grab all the values in order.
-      HashMap <String, Long> sortedMeasurements = Helper.sortMapByKeyStringToLong(measurements);
-      
-      String timeSeriesData = "";
-      int counter = 0;
-      String firstKey = "";
-      for (Entry<String, Long> entry : sortedMeasurements.entrySet())   {
-         if (counter == 0) {
-            firstKey = entry.getKey();
-         }  
-         timeSeriesData+=entry.getValue();
-         timeSeriesData += " ";
-         System.out.println(entry.getKey() +"\t"+entry.getValue());  
-         counter++;
-      
-      }
-      // remove the last space
-      timeSeriesData = timeSeriesData.substring(0, timeSeriesData.length() - 1);
+      // put measurements in order of their time offset
+      TimeSeries series = TimeSeries.ofLongs(measurements);
+      long firstOffset = series.isEmpty() ? 0 : series.getOffset(0);
+      mySampledData.setData(series.encode(secondsBetweenMeasurements.longValue()));
 
-      mySampledData.setData(timeSeriesData);
-
-      Long unixTimeStamp = Long.parseLong(startTime) + Long.parseLong(localOffset) + Long.parseLong(firstKey);
-
-      DateTimeType myEffectiveDateTime = new DateTimeType(Helper.formatDate(unixTimeStamp));
+      DateTimeType myEffectiveDateTime = Helper.toDateTime(Long.parseLong(startTime) + firstOffset, Long.parseLong(localOffset));
       
       Meta myMeta = null;
       myObs = setCommonVitalsFields(myObs, document, theId, myEffectiveDateTime, mySampledData, myMeta, myCode);
-      myObservations.put(theId.getIdPart(), myObs);
+      return myObs;
 
    }
 
-   private Observation setCommonVitalsFields(Observation myObs, QueryDocumentSnapshot document, 
+   private Observation setCommonVitalsFields(Observation myObs, GarminSummary document, 
       @IdParam IdType theId, DateTimeType myEffectiveDateTime, Type myValue,
       Meta myMeta, CodeableConcept myCode) {
 
@@ -0,0 +1,111 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.param.TokenOrListParam;
+import ca.uhn.fhir.rest.param.TokenParam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Translates an Observation search into reads of the Garmin collections that can hold matching
+ * Observations.
+ *
+ * Each collection is listed with the category and code its Observations are mapped with, so
+ * the code and category parameters pick the collections to read. The subject and date
+ * parameters become conditions on user_id and the start time of the summary, see
+ * {@link GarminSummaryStore#searchSummaries}.
+ */
+public class ObservationSearch {
+
+   public static final String CATEGORY_SYSTEM = "http://terminology.hl7.org/CodeSystem/observation-category";
+   public static final String VITAL_SIGNS = "vital-signs";
+   public static final String PHYSICAL_ACTIVITY = "physical-activity";
+
+   private static final Target[] TARGETS = {
+      new Target(GarminCollection.RESPIRATION, VITAL_SIGNS, ComponentMapping.LOINC, "9279-1", "startTimeInSeconds"),
+      new Target(GarminCollection.PULSE_OX, VITAL_SIGNS, ComponentMapping.LOINC, "2708-6", "startTimeInSeconds"),
+      new Target(GarminCollection.STRESS, VITAL_SIGNS, ComponentMapping.GARMIN, "stress-code", "startTimeInSeconds"),
+      new Target(GarminCollection.EPOCH, PHYSICAL_ACTIVITY, ComponentMapping.GARMIN, "epoch-summary-code", "startTimeInSeconds"),
+      new Target(GarminCollection.ACTIVITY, PHYSICAL_ACTIVITY, ComponentMapping.GARMIN, "activity-summary-code", "startTimeInSeconds"),
+      new Target(GarminCollection.DAILY, PHYSICAL_ACTIVITY, ComponentMapping.GARMIN, "daily-summary-code", "startTimeInSeconds"),
+      // activity details keep the activity summary in a nested map
+      new Target(GarminCollection.ACTIVITY_DETAIL, PHYSICAL_ACTIVITY, ComponentMapping.GARMIN, "activity-details-summary-code", "summary.startTimeInSeconds"),
+      new Target(GarminCollection.SLEEP, PHYSICAL_ACTIVITY, ComponentMapping.GARMIN, "sleep-summary-code", "startTimeInSeconds")
+   };
+
+   /**
+    * A Garmin collection that holds Observations, with the category and code they are mapped with.
+    */
+   public static final class Target {
+      private final GarminCollection myCollection;
+      private final String myCategory;
+      private final String myCodeSystem;
+      private final String myCode;
+      private final String myDateField;
+      private final String[] mySearchFields;
+
+      private Target(GarminCollection theCollection, String theCategory, String theCodeSystem, String theCode, String theDateField) {
+         myCollection = theCollection;
+         myCategory = theCategory;
+         myCodeSystem = theCodeSystem;
+         myCode = theCode;
+         myDateField = theDateField;
+
+         // the mapping's fields, plus the summaryId the Observation ID is made from and the
+         // date field, which a startAfter cursor needs the value of
+         List<String> fields = new ArrayList<String>(Arrays.asList(theCollection.getFields()));
+         fields.add("summaryId");
+         if (!fields.contains(theDateField)) {
+            fields.add(theDateField);
+         }
+         mySearchFields = fields.toArray(new String[0]);
+      }
+
+      public GarminCollection getCollection() {
+         return myCollection;
+      }
+
+      public String getDateField() {
+         return myDateField;
+      }
+
+      /**
+       * @return a copy of the fields a search reads: the mapping's fields, the summaryId and the date field
+       */
+      public String[] getSearchFields() {
+         return mySearchFields.clone();
+      }
+
+      private boolean matches(TokenOrListParam theCode, TokenOrListParam theCategory) {
+         return matches(theCode, myCodeSystem, myCode) && matches(theCategory, CATEGORY_SYSTEM, myCategory);
+      }
+
+      private static boolean matches(TokenOrListParam theTokens, String theSystem, String theCode) {
+         if (theTokens == null || theTokens.getValuesAsQueryTokens().isEmpty()) {
+            return true;
+         }
+         for (TokenParam next : theTokens.getValuesAsQueryTokens()) {
+            boolean systemMatches = next.getSystem() == null || next.getSystem().isEmpty() || next.getSystem().equals(theSystem);
+            if (systemMatches && theCode.equals(next.getValue())) {
+               return true;
+            }
+         }
+         return false;
+      }
+   }
+
+   /**
+    * @return the collections that can hold Observations with any of the codes and any of the
+    *         categories, in a fixed order. All of them if neither parameter is given.
+    */
+   public static List<Target> selectTargets(TokenOrListParam theCode, TokenOrListParam theCategory) {
+      List<Target> retVal = new ArrayList<Target>();
+      for (Target next : TARGETS) {
+         if (next.matches(theCode, theCategory)) {
+            retVal.add(next);
+         }
+      }
+      return retVal;
+   }
+}
@@ -9,32 +9,23 @@ import org.hl7.fhir.r4.model.IdType;
 import org.hl7.fhir.r4.model.Patient;
 import org.hl7.fhir.instance.model.api.IBaseResource;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.Firestore;
-
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-
-import com.google.firebase.cloud.FirestoreClient;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
-import com.google.common.collect.ImmutableMap;
 import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Query;
-import com.google.cloud.firestore.CollectionReference;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.io.*;
-import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class PatientResourceProvider implements IResourceProvider {
 
-   private Map<String, Patient> myPatients = new HashMap<String, Patient>();
-   private Firestore db;
+   private static final Logger ourLog = LoggerFactory.getLogger(PatientResourceProvider.class);
+
+   public static final long DEFAULT_STALENESS_SECONDS = 5 * 60;
+
+   // user ID -> the Patient built from the user's latest metric
+   private ResourceCache<Patient> myPatients;
+   private GarminSummaryStore myStore;
 
    /**
     * Constructor
@@ -43,9 +34,18 @@ public class PatientResourceProvider implements IResourceProvider {
     at the time we want to read it. 
     */
 
-   public PatientResourceProvider(Firestore _db) {
-      db = _db;
-      //Helper.retrieveUsers(db);
+   public PatientResourceProvider(GarminSummaryStore theStore) {
+      this(theStore, DEFAULT_STALENESS_SECONDS);
+   }
+
+   /**
+    * @param theStalenessSeconds how long the Patient built from a user's latest metric is served
+    *                            from the cache, unless {@link #invalidateLatestMetric(String)} is
+    *                            called first
+    */
+   public PatientResourceProvider(GarminSummaryStore theStore, long theStalenessSeconds) {
+      myStore = theStore;
+      myPatients = new ResourceCache<Patient>(ResourceCache.DEFAULT_MAXIMUM_SIZE, theStalenessSeconds);
    }
 
    @Override
@@ -62,9 +62,14 @@ public class PatientResourceProvider implements IResourceProvider {
       // for testing/development purposes
       // retrieve dummy user by sending a get request to http://localhost:8080/Patient/1 
       setDummyUser(theId);
-      searchForPatient(theId); 
 
       Patient retVal = myPatients.get(theId.getIdPart());
+      if (retVal == null) {
+         retVal = Helper.awaitResult(searchForPatientAsync(theId));
+         if (retVal != null) {
+            myPatients.put(theId.getIdPart(), retVal);
+         }
+      }
       
       if (retVal == null) {
          throw new ResourceNotFoundException(theId);
@@ -73,70 +78,30 @@ public class PatientResourceProvider implements IResourceProvider {
    }
 
 
-   // Search firebase documents for a user id like g1, g2, g3 ... 
-   // Format it as a patient resource and set it in our Patient hashmap
+   /**
+    * Drops the cached Patient of a user, so that the next read looks up the latest metric in
+    * the store again. Call this whenever a new user metric is written.
+    */
+   public void invalidateLatestMetric(String theUserId) {
+      myPatients.invalidate(theUserId);
+   }
 
-   private void searchForPatient(@IdParam IdType theId) {
-      System.out.printf("Searching for patient with id %s \n", theId.getIdPart());
-      
-      try {
-         ApiFuture<QuerySnapshot> future = db.collection("g_userMetric").whereEqualTo("user_id", theId.getIdPart()).get();
-			List<QueryDocumentSnapshot> documents = future.get().getDocuments();
-         System.out.println("Document size: ");
-         System.out.println(documents.size());
-         
-
-         if (documents.size() < 1) {
-            return;
-         } 
-         
-         // Select the most recent user metric for this user
-         LocalDate mostRecentDate = LocalDate.of(1900, 01, 01);
-         QueryDocumentSnapshot mostRecentDoc = null;
-
-         for (int i=0; i < documents.size(); i++) {
-            QueryDocumentSnapshot document = documents.get(i);
-
-            if (i==0) {
-               mostRecentDoc = document;
-            }
-
-            System.out.println("User: " + document.getId());
-            System.out.println("Summary ID: " + document.getString("summaryId"));
-            System.out.println("User ID: " + document.getString("user_id"));
-            System.out.println("Calendar date: " + document.getString("calendarDate"));
-            
-            String [] dateParts = document.getString("calendarDate").split("-");
-            
-            if (dateParts.length != 3) {
-               System.out.println("Date format in Firebase is not the expected format of YYYY-MM-DD");
-               ArrayIndexOutOfBoundsException incorrectDate = new ArrayIndexOutOfBoundsException();
-               throw incorrectDate;
-            }
-            
-            LocalDate curDate = LocalDate.of(Integer.parseInt(dateParts[0]), Integer.parseInt(dateParts[1]), Integer.parseInt(dateParts[2]));
-
-            if (curDate.isAfter(mostRecentDate)) {
-               mostRecentDate = curDate;
-               mostRecentDoc = document;
-            }
-         }
+   // Search the user metrics for a user id like g1, g2, g3 ... 
+   // Format it as a patient resource once the newest metric arrives, without blocking on it.
+   // The future holds null if the user has no metrics.
 
-         System.out.println("Most recent doc is " + mostRecentDoc.getString("calendarDate"));
-         setPatientResource(mostRecentDoc, theId);
-		}
-      catch (Exception e) {
-         e.printStackTrace();
-      }      
-      return;
+   private ApiFuture<Patient> searchForPatientAsync(@IdParam IdType theId) {
+      ourLog.debug("Searching for patient with id {}", theId.getIdPart());
+      return ApiFutures.transform(myStore.findLatestUserMetric(theId.getIdPart()),
+         document -> (document == null) ? null : setPatientResource(document, theId), MoreExecutors.directExecutor());
    }
 
-   private void setPatientResource(QueryDocumentSnapshot doc, @IdParam IdType theId) {
+   private Patient setPatientResource(GarminSummary doc, @IdParam IdType theId) {
       Patient pat1 = new Patient();
       pat1.setId(theId.getIdPart()); // i think this is a logical identifier for the server?
       pat1.addIdentifier().setSystem("https://warriorwellness.me").setValue(theId.getIdPart());
       //pat1.addName().setFamily("Bruin").addGiven("Jane").addGiven("C");
-      myPatients.put(theId.getIdPart(), pat1);
+      return pat1;
    }
 
    // the passed in theId must be server ID of 1 
@@ -1,11 +1,12 @@
 package ca.uhn.fhir.example;
 import ca.uhn.fhir.example.Helper;
 import ca.uhn.fhir.example.ActivityType;
-import ca.uhn.fhir.example.ActivityEnum;
 
 // fhir
+import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.rest.annotation.IdParam;
 import ca.uhn.fhir.rest.annotation.Read;
+import ca.uhn.fhir.rest.api.server.RequestDetails;
 import ca.uhn.fhir.rest.server.IResourceProvider;
 import ca.uhn.fhir.rest.server.exceptions.ResourceNotFoundException;
 import org.hl7.fhir.r4.model.IdType;
@@ -14,40 +15,19 @@ import org.hl7.fhir.instance.model.api.IBaseResource;
 import org.hl7.fhir.r4.model.Procedure.ProcedureStatus;
 import org.hl7.fhir.r4.model.Reference;
 import org.hl7.fhir.r4.model.CodeableConcept;
-import org.hl7.fhir.r4.model.Coding;
 import org.hl7.fhir.r4.model.Period;
-import org.hl7.fhir.r4.model.DateTimeType;
 import org.hl7.fhir.r4.model.Annotation;
 import org.hl7.fhir.r4.model.MarkdownType;
 
-import com.google.auth.oauth2.GoogleCredentials;
-import com.google.cloud.firestore.Firestore;
-
-import com.google.firebase.FirebaseApp;
-import com.google.firebase.FirebaseOptions;
-
-import com.google.firebase.cloud.FirestoreClient;
-import com.google.cloud.firestore.QueryDocumentSnapshot;
-import com.google.cloud.firestore.QuerySnapshot;
-import com.google.cloud.firestore.WriteResult;
-import com.google.common.collect.ImmutableMap;
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.Query;
-import com.google.cloud.firestore.CollectionReference;
-
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ExecutionException;
 import java.io.*;
-import java.time.LocalDate;
 import java.util.ArrayList;
 
-
 public class ProcedureResourceProvider implements IResourceProvider {
 
-    private Map<String, Procedure> myProcedures = new HashMap<String, Procedure>();
-    private Firestore db;
+    private ResourceCache<Procedure> myProcedures = new ResourceCache<Procedure>();
+    private GarminSummaryStore myStore;
+    private FhirContext myFhirContext;
 
     /**
      * Constructor
@@ -55,8 +35,17 @@ public class ProcedureResourceProvider implements IResourceProvider {
      at the time we want to read it. 
      */
  
-    public ProcedureResourceProvider(Firestore _db) {
-       db = _db;
+    public ProcedureResourceProvider(GarminSummaryStore theStore) {
+       this(theStore, null);
+    }
+
+    /**
+     * @param theFhirContext used to read the Procedure a summary was materialized to when it
+     *                       was ingested, instead of mapping the summary again
+     */
+    public ProcedureResourceProvider(GarminSummaryStore theStore, FhirContext theFhirContext) {
+       myStore = theStore;
+       myFhirContext = theFhirContext;
     }
  
     @Override
@@ -69,12 +58,19 @@ public class ProcedureResourceProvider implements IResourceProvider {
      * Get data from Firebase by calling http://localhost:8080/Procedure/g* where * is a number
     */
     @Read()
-    public Procedure read(@IdParam IdType theId) {
-        QueryDocumentSnapshot document = Helper.searchForDocument(db, theId);
-        
-        setResourceWrapper(document, theId);
- 
+    public Procedure read(@IdParam IdType theId, RequestDetails theRequestDetails) {
+        // cached when it was last read or when the summary was ingested
         Procedure retVal = myProcedures.get(theId.getIdPart());
+        Helper.checkNotModified(theRequestDetails, retVal);
+        if (retVal == null) {
+            // a client that already has this version is answered after looking up only the
+            // version, so the summary is neither read nor mapped
+            GarminSummary document = Helper.awaitResult(Helper.searchForModifiedDocumentAsync(myStore, theId, theRequestDetails));
+
+            setResourceWrapper(document, theId);
+
+            retVal = myProcedures.get(theId.getIdPart());
+        }
         
         if (retVal == null) {
             throw new ResourceNotFoundException(theId);
@@ -82,7 +78,36 @@ public class ProcedureResourceProvider implements IResourceProvider {
         return retVal;
     }
 
-    private void setResourceWrapper(QueryDocumentSnapshot document, @IdParam IdType theId) {
+    /**
+     * Maps a summary of a collection to its Procedure, without caching it and without a version,
+     * which the summary only has once it is written, see {@link #putWritten}.
+     *
+     * @return the Procedure, or null if the summary has no summaryId or is not mapped to one
+     */
+    Procedure mapUnwritten(String theCollName, GarminSummary theDocument) {
+        String summaryId = theDocument.getString("summaryId");
+        if (summaryId == null || GarminCollection.fromName(theCollName) != GarminCollection.MOVE_IQ) {
+            return null;
+        }
+        return mapSummary(theDocument, new IdType("Procedure", theCollName + ":" + summaryId));
+    }
+
+    /**
+     * Caches the Procedure a summary was mapped to by {@link #mapUnwritten}, once the summary is
+     * written, with the version the store gave it, as if it had been read.
+     */
+    void putWritten(String theCollName, GarminSummary theWritten, Procedure theProcedure) {
+        myProcedures.put(theCollName + ":" + theWritten.getString("summaryId"), Helper.setVersion(theProcedure, theWritten));
+    }
+
+    /**
+     * Removes a resource from the cache so that the next read fetches it from the store again.
+     */
+    public void invalidate(IdType theId) {
+        myProcedures.invalidate(theId.getIdPart());
+    }
+
+    private void setResourceWrapper(GarminSummary document, @IdParam IdType theId) {
         if (document == null) {
             return;
         }
@@ -94,15 +119,21 @@ public class ProcedureResourceProvider implements IResourceProvider {
         }
    
         String collName = theIdParts[0];
-        String theSummaryId = theIdParts[1];
         
-        switch (collName) {
-            case "g_moveIq": 
-                setMoveIqResource(document, theId);
-                break;
+        if (GarminCollection.fromName(collName) == GarminCollection.MOVE_IQ) {
+            myProcedures.put(theId.getIdPart(), Helper.setVersion(mapSummary(document, theId), document));
         }
     }
 
+    private Procedure mapSummary(GarminSummary document, IdType theId) {
+        // materialized by SummaryIngester from the same mapping as below, so it only needs parsing
+        String fhirJson = document.getString(GarminSummary.FHIR_JSON);
+        if (fhirJson != null && myFhirContext != null) {
+            return myFhirContext.newJsonParser().parseResource(Procedure.class, fhirJson);
+        }
+        return setMoveIqResource(document, theId);
+    }
+
 
     // I looked on loinc.org to try to find corresponding walking, fitness equipment, etc 
     // activity codes. LOINC codes are generated typically from health surveys and don't 
@@ -112,7 +143,7 @@ public class ProcedureResourceProvider implements IResourceProvider {
     // there are also a lot of other code systems at http://hl7.org/fhir/R4/terminologies-systems.html. 
 
     // it's possible that activity types could live in observation rather than procedure.
-    private void setMoveIqResource(QueryDocumentSnapshot document, @IdParam IdType theId) {
+    private Procedure setMoveIqResource(GarminSummary document, @IdParam IdType theId) {
         Procedure myProcedure = new Procedure();
         myProcedure.setSubject(new Reference("Patient/" + document.getString("user_id")));
         myProcedure.setId(theId.getIdPart());
@@ -136,8 +167,7 @@ public class ProcedureResourceProvider implements IResourceProvider {
             myProcedure.setPerformed(periodOfActivity);
         }        
         
-        myProcedures.put(theId.getIdPart(), myProcedure);
-
+        return myProcedure;
     }
 }
  
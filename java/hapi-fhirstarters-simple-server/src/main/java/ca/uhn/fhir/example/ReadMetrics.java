@@ -0,0 +1,117 @@
+package ca.uhn.fhir.example;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the documents read from each Firestore collection and estimates how many bytes they
+ * carried. The Firestore client does not report transferred bytes, so the size is estimated
+ * with Firestore's own storage size rules
+ * (https://firebase.google.com/docs/firestore/storage-size). Estimating means walking the
+ * whole document a second time, so only one read in {@link #SAMPLE_INTERVAL} is measured.
+ */
+public class ReadMetrics {
+
+   public static final int SAMPLE_INTERVAL = 16;
+
+   private static final Logger ourLog = LoggerFactory.getLogger(ReadMetrics.class);
+   private static final ConcurrentHashMap<String, ReadMetrics> ourMetrics = new ConcurrentHashMap<String, ReadMetrics>();
+
+   private final String myCollection;
+   private final AtomicLong myReads = new AtomicLong();
+   private final AtomicLong mySampledReads = new AtomicLong();
+   private final AtomicLong mySampledBytes = new AtomicLong();
+
+   private ReadMetrics(String theCollection) {
+      myCollection = theCollection;
+   }
+
+   /**
+    * Records that a document was read from a collection.
+    */
+   public static void record(String theCollection, GarminSummary theDocument) {
+      ReadMetrics metrics = forCollection(theCollection);
+      long reads = metrics.myReads.incrementAndGet();
+      if (reads % SAMPLE_INTERVAL == 1) {
+         metrics.mySampledReads.incrementAndGet();
+         metrics.mySampledBytes.addAndGet(estimateSize(theDocument));
+      }
+      if (reads % 1000 == 0) {
+         ourLog.info("{}", metrics);
+      }
+   }
+
+   public static ReadMetrics forCollection(String theCollection) {
+      ReadMetrics metrics = ourMetrics.get(theCollection);
+      if (metrics == null) {
+         ourMetrics.putIfAbsent(theCollection, new ReadMetrics(theCollection));
+         metrics = ourMetrics.get(theCollection);
+      }
+      return metrics;
+   }
+
+   public long getReads() {
+      return myReads.get();
+   }
+
+   /**
+    * @return the estimated average number of bytes per document read, or 0 before the first read
+    */
+   public long getAverageBytesPerRead() {
+      long sampled = mySampledReads.get();
+      return sampled == 0 ? 0 : mySampledBytes.get() / sampled;
+   }
+
+   @Override
+   public String toString() {
+      return "Firestore reads from " + myCollection + ": " + getReads() + ", ~" + getAverageBytesPerRead() + " bytes per read";
+   }
+
+   static long estimateSize(GarminSummary theDocument) {
+      if (theDocument == null) {
+         return 0;
+      }
+      // the document name plus a fixed 32 bytes per document
+      long size = utf8Length(theDocument.getPath()) + 1 + 32;
+      return size + estimateMapSize(theDocument.getData());
+   }
+
+   private static long estimateMapSize(Map<?, ?> theMap) {
+      long size = 0;
+      for (Map.Entry<?, ?> next : theMap.entrySet()) {
+         size += utf8Length(String.valueOf(next.getKey())) + 1 + estimateValueSize(next.getValue());
+      }
+      return size;
+   }
+
+   private static long estimateValueSize(Object theValue) {
+      if (theValue == null || theValue instanceof Boolean) {
+         return 1;
+      }
+      if (theValue instanceof String) {
+         return utf8Length((String) theValue) + 1;
+      }
+      if (theValue instanceof Map) {
+         return estimateMapSize((Map<?, ?>) theValue);
+      }
+      if (theValue instanceof List) {
+         long size = 0;
+         for (Object next : (List<?>) theValue) {
+            size += estimateValueSize(next);
+         }
+         return size;
+      }
+      // numbers, timestamps and references are counted as fixed width
+      return 8;
+   }
+
+   private static int utf8Length(String theString) {
+      return theString.getBytes(StandardCharsets.UTF_8).length;
+   }
+}
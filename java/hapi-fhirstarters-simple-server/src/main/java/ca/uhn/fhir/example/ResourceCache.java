@@ -0,0 +1,86 @@
+package ca.uhn.fhir.example;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded, thread-safe cache for the FHIR resources built by the resource providers,
+ * keyed by the resource ID part (for example g_stress:summaryId).
+ *
+ * It replaces the plain HashMaps the providers used to keep, which were shared by all request
+ * threads and never evicted anything. The cache is split into segments that each evict their
+ * least recently used entries once the maximum size is reached, and entries also expire a
+ * fixed time after they were written. Hit, miss and eviction counts are recorded.
+ */
+public class ResourceCache<T> {
+
+   public static final long DEFAULT_MAXIMUM_SIZE = 10000;
+   public static final long DEFAULT_TIME_TO_LIVE_SECONDS = 60 * 60;
+
+   private final Cache<String, T> myCache;
+
+   public ResourceCache() {
+      this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE_SECONDS);
+   }
+
+   /**
+    * @param theMaximumSize       the number of resources kept before the least recently used are evicted
+    * @param theTimeToLiveSeconds the number of seconds a resource is kept after it was put in the cache
+    */
+   public ResourceCache(long theMaximumSize, long theTimeToLiveSeconds) {
+      myCache = CacheBuilder.newBuilder()
+         .maximumSize(theMaximumSize)
+         .expireAfterWrite(theTimeToLiveSeconds, TimeUnit.SECONDS)
+         .recordStats()
+         .build();
+   }
+
+   /**
+    * @return the cached resource, or null if it is not cached or has expired
+    */
+   public T get(String theId) {
+      return myCache.getIfPresent(theId);
+   }
+
+   /**
+    * Gets the cached resource, or creates and caches it if there is none. Callers asking for the
+    * same ID at the same time wait for a single creation and all get its result.
+    *
+    * @param theCreate creates the resource, must not return null
+    */
+   public T get(String theId, Callable<? extends T> theCreate) {
+      try {
+         return myCache.get(theId, theCreate);
+      } catch (ExecutionException e) {
+         throw new IllegalStateException("Could not create the cached resource " + theId, e.getCause());
+      }
+   }
+
+   public void put(String theId, T theResource) {
+      myCache.put(theId, theResource);
+   }
+
+   public void invalidate(String theId) {
+      myCache.invalidate(theId);
+   }
+
+   public void invalidateAll() {
+      myCache.invalidateAll();
+   }
+
+   public long size() {
+      return myCache.size();
+   }
+
+   /**
+    * @return a snapshot of the hit, miss and eviction counts since the cache was created
+    */
+   public CacheStats getStats() {
+      return myCache.stats();
+   }
+}
@@ -1,9 +1,13 @@
 package ca.uhn.fhir.example;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.rest.server.FifoMemoryPagingProvider;
 import ca.uhn.fhir.rest.server.RestfulServer;
 import ca.uhn.fhir.rest.server.interceptor.ResponseHighlighterInterceptor;
 
@@ -24,6 +28,8 @@ import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.io.*;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 // added to try to customize the capability statement
 import ca.uhn.fhir.rest.server.exceptions.InternalErrorException;
@@ -33,41 +39,75 @@ import ca.uhn.fhir.validation.ResultSeverityEnum;
 //import org.hl7.fhir.common.hapi.validation.validator.FhirInstanceValidator;
 import org.hl7.fhir.r4.model.CapabilityStatement;
 import org.hl7.fhir.r4.model.Enumerations;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 //import org.springframework.web.cors.CorsConfiguration;
 
 
-@WebServlet("/*")
+// loaded on startup so that IngestServlet finds the ingester before the first FHIR request
+@WebServlet(urlPatterns = "/*", asyncSupported = true, loadOnStartup = 1)
 public class SimpleRestfulServer extends RestfulServer {
 
+	private static final Logger ourLog = LoggerFactory.getLogger(SimpleRestfulServer.class);
+
+	// Requests are handled on the container's threads unless the server is started with
+	// -Dserver.executionMode=virtual, in which case every request gets its own virtual thread
+	// (needs a Java 21+ runtime) and the container thread goes straight back to the pool.
+	// Firestore reads are then bounded by CollectionThrottle rather than by the pool size.
+	private ExecutorService myRequestExecutor;
+	private SummaryIngester myIngester;
+
 	@Override
 	protected void initialize() throws ServletException {
 		// Create a context for the appropriate version
 		setFhirContext(FhirContext.forR4());
 
+		if ("virtual".equalsIgnoreCase(System.getProperty("server.executionMode"))) {
+			myRequestExecutor = newVirtualThreadPerTaskExecutor();
+		}
+
 
 		try {	
-			// Initialize Firebase
-			// Use a service account
-			String credentials_path = "/Users/jeanniehuang/Developer/garmin/FHIR-Sandbox/fhir-sandbox-f2a24-6a2139c74d93.json";
-			InputStream serviceAccount = new FileInputStream(credentials_path);
-			GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccount);
-			FirebaseOptions options = new FirebaseOptions.Builder()
-				.setCredentials(credentials)
-				.build();
-			FirebaseApp.initializeApp(options);
-			
-			Firestore db = FirestoreClient.getFirestore();
+			GarminSummaryStore store = createSummaryStore();
 
 			// Register resource providers
 			
-			registerProvider(new PatientResourceProvider(db));
-			registerProvider(new ObservationResourceProvider(db));
-			registerProvider(new ProcedureResourceProvider(db));
-			registerProvider(new DeviceResourceProvider(db));
+			// The Patient built from a user's latest metric is cached; change how long with -Dpatient.stalenessSeconds=N
+			long patientStalenessSeconds = Long.getLong("patient.stalenessSeconds", PatientResourceProvider.DEFAULT_STALENESS_SECONDS);
+			PatientResourceProvider patientProvider = new PatientResourceProvider(store, patientStalenessSeconds);
+			registerProvider(patientProvider);
+			// Garmin summaries are immutable once written, so mapped Observations are served from a cache.
+			// Start the server with -Dobservation.stalenessSeconds=N to change how long they are kept.
+			long observationStalenessSeconds = Long.getLong("observation.stalenessSeconds", ResourceCache.DEFAULT_TIME_TO_LIVE_SECONDS);
+			ObservationResourceProvider observationProvider = new ObservationResourceProvider(store, observationStalenessSeconds, getFhirContext());
+			registerProvider(observationProvider);
+			ProcedureResourceProvider procedureProvider = new ProcedureResourceProvider(store, getFhirContext());
+			registerProvider(procedureProvider);
+			registerProvider(new DeviceResourceProvider(store));
+
+			// Reads of Observations and Procedures are answered with the bytes they were encoded to the
+			// first time. Start the server with -Dresponse.cacheSize=N to change how many resources are kept.
+			long responseCacheSize = Long.getLong("response.cacheSize", EncodedResponseCache.DEFAULT_MAXIMUM_SIZE);
+			EncodedResponseCache responseCache = new EncodedResponseCache(getFhirContext(), responseCacheSize, observationStalenessSeconds);
+
+			// Summaries POSTed to /ingest are mapped once and written with their FHIR resource, see
+			// IngestServlet. Start the server with -Dingest.queueCapacity=N to change how many can wait.
+			int ingestQueueCapacity = Integer.getInteger("ingest.queueCapacity", SummaryIngester.DEFAULT_QUEUE_CAPACITY);
+			myIngester = new SummaryIngester(store, getFhirContext(), observationProvider, procedureProvider, patientProvider,
+				responseCache, ingestQueueCapacity);
+			getServletContext().setAttribute(SummaryIngester.class.getName(), myIngester);
+
+			// Keeps each search between page requests. Observation searches only hold their
+			// cursors here, the pages themselves are read when they are asked for.
+			FifoMemoryPagingProvider pagingProvider = new FifoMemoryPagingProvider(100);
+			pagingProvider.setDefaultPageSize(50);
+			pagingProvider.setMaximumPageSize(500);
+			setPagingProvider(pagingProvider);
 			
 			// Format the responses in nice HTML
 			// Provides the autmomatically generated metadata/capability statement as well?
 			registerInterceptor(new ResponseHighlighterInterceptor());
+			registerInterceptor(responseCache);
 
 
 			// Use a statically generated capability statement 
@@ -90,11 +130,86 @@ public class SimpleRestfulServer extends RestfulServer {
 	}
 
 	catch (IOException e) {
-			e.printStackTrace();
+			ourLog.error("Failed to initialize the server", e);
 		}
 		
 	}
 
+	@Override
+	protected void service(HttpServletRequest theReq, HttpServletResponse theResp) throws ServletException, IOException {
+		if (myRequestExecutor == null) {
+			super.service(theReq, theResp);
+			return;
+		}
+
+		AsyncContext asyncContext = theReq.startAsync();
+		// Firestore reads have their own timeouts, so the container should not cut requests short
+		asyncContext.setTimeout(0);
+		myRequestExecutor.execute(() -> {
+			try {
+				super.service(theReq, theResp);
+			} catch (Exception e) {
+				ourLog.error("Request failed", e);
+				if (!theResp.isCommitted()) {
+					theResp.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+				}
+			} finally {
+				asyncContext.complete();
+			}
+		});
+	}
+
+	@Override
+	public void destroy() {
+		if (myRequestExecutor != null) {
+			myRequestExecutor.shutdown();
+		}
+		if (myIngester != null) {
+			getServletContext().removeAttribute(SummaryIngester.class.getName());
+			try {
+				myIngester.stop(30000);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		super.destroy();
+	}
+
+	// Summaries are read from Firestore unless the server is started with -Dstore=local, which
+	// serves the JSON fixtures of -Dstore.fixtures=<directory>, or those on the classpath under
+	// /fixtures, without any network access. See LocalSummaryStore for the fixture format.
+	// Tests override this to count or slow down the reads of the store.
+	protected GarminSummaryStore createSummaryStore() throws IOException {
+		if ("local".equalsIgnoreCase(System.getProperty("store"))) {
+			String fixtures = System.getProperty("store.fixtures");
+			return (fixtures != null) ? LocalSummaryStore.fromDirectory(new File(fixtures)) : LocalSummaryStore.fromClasspath();
+		}
+
+		// Initialize Firebase
+		// Use a service account, from -Dfirestore.credentials=<path> if given
+		String credentials_path = System.getProperty("firestore.credentials",
+			"/Users/jeanniehuang/Developer/garmin/FHIR-Sandbox/fhir-sandbox-f2a24-6a2139c74d93.json");
+		GoogleCredentials credentials;
+		try (InputStream serviceAccount = new FileInputStream(credentials_path)) {
+			credentials = GoogleCredentials.fromStream(serviceAccount);
+		}
+		FirebaseOptions options = new FirebaseOptions.Builder()
+			.setCredentials(credentials)
+			.build();
+		FirebaseApp.initializeApp(options);
+
+		return new FirestoreSummaryStore(FirestoreClient.getFirestore());
+	}
+
+	// The module is compiled for Java 8, so the Java 21 factory method is looked up reflectively
+	private static ExecutorService newVirtualThreadPerTaskExecutor() throws ServletException {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			throw new ServletException("server.executionMode=virtual needs a Java 21 or newer runtime", e);
+		}
+	}
+
 
 
 }
@@ -0,0 +1,312 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.api.server.IBundleProvider;
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import ca.uhn.fhir.rest.server.exceptions.InternalErrorException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.hl7.fhir.instance.model.api.IBaseResource;
+import org.hl7.fhir.instance.model.api.IPrimitiveType;
+import org.hl7.fhir.r4.model.InstantType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The results of an Observation search, read from a {@link GarminSummaryStore} one page at a time.
+ *
+ * Nothing is read until a page is asked for, and only the documents of that page are mapped.
+ * Results are ordered by start time, and by the order of {@link ObservationSearch#selectTargets}
+ * for the same start time. For every page, each collection that is not read to the end yet is
+ * searched at the same time for up to a page of summaries, and the searches are merged by start
+ * time. The position where each served page ends is kept as a cursor (the last summary read from
+ * each collection), so the next page continues after it instead of reading everything before it
+ * again.
+ *
+ * While a page is being encoded, the searches of the following page are already started. Only one
+ * page is read ahead per search. It is dropped, and its reads cancelled, if another page is asked
+ * for instead or if it is not asked for within {@link #PREFETCH_TIMEOUT_SECONDS}.
+ *
+ * The total number of results is not known up front, so {@link #size()} is null and the last
+ * page is the first one that comes back short.
+ */
+public class SummaryBundleProvider implements IBundleProvider {
+
+   /**
+    * Maps a summary of a collection to a resource, or to null if it cannot be mapped.
+    */
+   public interface DocumentMapper {
+      IBaseResource map(String theCollectionName, GarminSummary theDocument);
+   }
+
+   public static final long PREFETCH_TIMEOUT_SECONDS = 60;
+
+   // only drops the pages read ahead that nobody asked for, the reads run on the store's threads
+   private static final ScheduledThreadPoolExecutor ourPrefetchExpiry = new ScheduledThreadPoolExecutor(1,
+      new ThreadFactoryBuilder().setNameFormat("summary-prefetch-expiry").setDaemon(true).build());
+
+   static {
+      // a page that is asked for in time does not keep its expiry queued
+      ourPrefetchExpiry.setRemoveOnCancelPolicy(true);
+   }
+
+   private final GarminSummaryStore myStore;
+   private final List<ObservationSearch.Target> myTargets;
+   private final String myUserId;
+   private final DateRangeParam myDate;
+   private final DocumentMapper myMapper;
+   private final Integer myPreferredPageSize;
+   private final InstantType myPublished = InstantType.now();
+
+   // result index -> where reading continues from that index
+   private final ConcurrentSkipListMap<Integer, Cursor> myCursors = new ConcurrentSkipListMap<Integer, Cursor>();
+   // the page being read ahead, if any
+   private final AtomicReference<Prefetch> myPrefetch = new AtomicReference<Prefetch>();
+
+   public SummaryBundleProvider(GarminSummaryStore theStore, List<ObservationSearch.Target> theTargets, String theUserId,
+         DateRangeParam theDate, DocumentMapper theMapper, Integer thePreferredPageSize) {
+      myStore = theStore;
+      myTargets = theTargets;
+      myUserId = theUserId;
+      myDate = theDate;
+      myMapper = theMapper;
+      myPreferredPageSize = thePreferredPageSize;
+      myCursors.put(0, new Cursor(new GarminSummary[theTargets.size()], new boolean[theTargets.size()]));
+   }
+
+   @Override
+   public IPrimitiveType<Date> getPublished() {
+      return myPublished;
+   }
+
+   @Override
+   public List<IBaseResource> getResources(int theFromIndex, int theToIndex) {
+      int count = theToIndex - theFromIndex;
+      if (count <= 0 || myTargets.isEmpty()) {
+         return Collections.emptyList();
+      }
+
+      Page page = null;
+      Prefetch prefetch = takePrefetch(theFromIndex, count);
+      if (prefetch != null) {
+         try {
+            page = prefetch.myFuture.get();
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalErrorException("Interrupted while searching " + myTargets.size() + " collections", e);
+         } catch (ExecutionException e) {
+            // read the page again on the request thread, so a failure is reported to the client
+         }
+      }
+      if (page == null) {
+         page = readPage(theFromIndex, count);
+      }
+
+      int end = theFromIndex + page.size();
+      if (page.myNext != null) {
+         myCursors.put(end, page.myNext);
+         // a full page means there may be more, so read the next one while this one is encoded
+         if (page.size() == count) {
+            prefetch(end, count, page.myNext);
+         }
+      }
+
+      List<IBaseResource> retVal = new ArrayList<IBaseResource>(page.size());
+      for (int i = 0; i < page.size(); i++) {
+         String collName = myTargets.get(page.myTargetIndexes.get(i)).getCollection().getName();
+         IBaseResource next = myMapper.map(collName, page.myDocuments.get(i));
+         if (next != null) {
+            retVal.add(next);
+         }
+      }
+      return retVal;
+   }
+
+   @Override
+   public String getUuid() {
+      return null;
+   }
+
+   @Override
+   public Integer preferredPageSize() {
+      return myPreferredPageSize;
+   }
+
+   @Override
+   public Integer size() {
+      return null;
+   }
+
+   // Reads a page starting anywhere. Pages are normally asked for in order, so there is a cursor
+   // for theFromIndex; otherwise reading starts at the closest cursor before it.
+   private Page readPage(int theFromIndex, int theCount) {
+      Map.Entry<Integer, Cursor> start = myCursors.floorEntry(theFromIndex);
+      Cursor cursor = start.getValue();
+      int skip = theFromIndex - start.getKey();
+      if (skip > 0) {
+         cursor = await(read(cursor, skip)).myNext;
+         if (cursor == null) {
+            return new Page();
+         }
+         myCursors.put(theFromIndex, cursor);
+      }
+      return await(read(cursor, theCount));
+   }
+
+   private void prefetch(int theFromIndex, int theCount, Cursor theCursor) {
+      Prefetch prefetch = new Prefetch(theFromIndex, theCount, read(theCursor, theCount));
+      Prefetch replaced = myPrefetch.getAndSet(prefetch);
+      if (replaced != null) {
+         replaced.cancel();
+      }
+      prefetch.myExpiry = ourPrefetchExpiry.schedule(() -> {
+         if (myPrefetch.compareAndSet(prefetch, null)) {
+            prefetch.cancel();
+         }
+      }, PREFETCH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+   }
+
+   // the page read ahead if it is the one asked for; any other is cancelled
+   private Prefetch takePrefetch(int theFromIndex, int theCount) {
+      Prefetch retVal = myPrefetch.getAndSet(null);
+      if (retVal == null) {
+         return null;
+      }
+      if (retVal.myFromIndex != theFromIndex || retVal.myCount != theCount) {
+         retVal.cancel();
+         return null;
+      }
+      if (retVal.myExpiry != null) {
+         retVal.myExpiry.cancel(false);
+      }
+      return retVal;
+   }
+
+   private Page await(ApiFuture<Page> thePage) {
+      try {
+         return thePage.get();
+      } catch (InterruptedException e) {
+         Thread.currentThread().interrupt();
+         throw new InternalErrorException("Interrupted while searching " + myTargets.size() + " collections", e);
+      } catch (ExecutionException e) {
+         throw new InternalErrorException("Failed to search " + myTargets.size() + " collections", e.getCause());
+      }
+   }
+
+   /**
+    * Reads up to theCount documents from the cursor on. Every collection that is not read to the
+    * end is searched for theCount documents at once, and the results are merged by start time.
+    */
+   private ApiFuture<Page> read(Cursor theCursor, int theCount) {
+      List<Integer> targetIndexes = new ArrayList<Integer>();
+      List<ApiFuture<List<GarminSummary>>> searches = new ArrayList<ApiFuture<List<GarminSummary>>>();
+      for (int i = 0; i < myTargets.size(); i++) {
+         if (!theCursor.myDone[i]) {
+            targetIndexes.add(i);
+            searches.add(myStore.searchSummaries(myTargets.get(i), myUserId, myDate, theCursor.myLastDocuments[i], theCount));
+         }
+      }
+      return ApiFutures.transform(ApiFutures.allAsList(searches), results -> merge(theCursor, theCount, targetIndexes, results),
+         MoreExecutors.directExecutor());
+   }
+
+   private Page merge(Cursor theCursor, int theCount, List<Integer> theTargetIndexes, List<List<GarminSummary>> theResults) {
+      Page page = new Page();
+      int[] taken = new int[theResults.size()];
+      while (page.size() < theCount) {
+         // the earliest next document, the first collection's on a tie
+         int earliest = -1;
+         long earliestTime = 0;
+         for (int i = 0; i < theResults.size(); i++) {
+            if (taken[i] < theResults.get(i).size()) {
+               long time = getStartTime(theTargetIndexes.get(i), theResults.get(i).get(taken[i]));
+               if (earliest == -1 || time < earliestTime) {
+                  earliest = i;
+                  earliestTime = time;
+               }
+            }
+         }
+         if (earliest == -1) {
+            break;
+         }
+         page.myTargetIndexes.add(theTargetIndexes.get(earliest));
+         page.myDocuments.add(theResults.get(earliest).get(taken[earliest]++));
+      }
+
+      GarminSummary[] lastDocuments = theCursor.myLastDocuments.clone();
+      boolean[] done = theCursor.myDone.clone();
+      boolean allDone = true;
+      for (int i = 0; i < theResults.size(); i++) {
+         int targetIndex = theTargetIndexes.get(i);
+         List<GarminSummary> documents = theResults.get(i);
+         if (taken[i] > 0) {
+            lastDocuments[targetIndex] = documents.get(taken[i] - 1);
+         }
+         // a short result that was used up is the end of the collection
+         done[targetIndex] = documents.size() < theCount && taken[i] == documents.size();
+         allDone &= done[targetIndex];
+      }
+      page.myNext = allDone ? null : new Cursor(lastDocuments, done);
+      return page;
+   }
+
+   // the value of the target's date field, which is a start time in seconds for every target
+   private long getStartTime(int theTargetIndex, GarminSummary theDocument) {
+      Long retVal = theDocument.getLong(myTargets.get(theTargetIndex).getDateField());
+      return (retVal != null) ? retVal : Long.MIN_VALUE;
+   }
+
+   // Where reading continues: after the last document of each collection, or at the start of a
+   // collection that has none. Collections that are done have been read to the end.
+   private static final class Cursor {
+      private final GarminSummary[] myLastDocuments;
+      private final boolean[] myDone;
+
+      private Cursor(GarminSummary[] theLastDocuments, boolean[] theDone) {
+         myLastDocuments = theLastDocuments;
+         myDone = theDone;
+      }
+   }
+
+   private static final class Page {
+      private final List<Integer> myTargetIndexes = new ArrayList<Integer>();
+      private final List<GarminSummary> myDocuments = new ArrayList<GarminSummary>();
+      // null once every collection has been read to the end
+      private Cursor myNext;
+
+      private int size() {
+         return myDocuments.size();
+      }
+   }
+
+   private static final class Prefetch {
+      private final int myFromIndex;
+      private final int myCount;
+      private final ApiFuture<Page> myFuture;
+      private volatile ScheduledFuture<?> myExpiry;
+
+      private Prefetch(int theFromIndex, int theCount, ApiFuture<Page> theFuture) {
+         myFromIndex = theFromIndex;
+         myCount = theCount;
+         myFuture = theFuture;
+      }
+
+      private void cancel() {
+         myFuture.cancel(true);
+         if (myExpiry != null) {
+            myExpiry.cancel(false);
+         }
+      }
+   }
+}
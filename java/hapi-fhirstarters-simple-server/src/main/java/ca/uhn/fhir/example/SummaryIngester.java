@@ -0,0 +1,308 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.parser.IParser;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import org.hl7.fhir.r4.model.IdType;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Procedure;
+import org.hl7.fhir.r4.model.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the Garmin summaries pushed to {@link IngestServlet} to the store, together with the FHIR
+ * resource each one maps to.
+ *
+ * Every summary is mapped once, here, with the providers' own mapping, and the resource is stored
+ * as JSON in {@link GarminSummary#FHIR_JSON} next to the Garmin fields. A read then only parses the
+ * stored JSON instead of mapping the summary again, and gives the resource the version the store
+ * gave the summary, see {@link GarminSummary#getVersion}. Once a summary is written, its resource is
+ * cached with that version, so reads right after an ingest are answered from the cache.
+ *
+ * Submitted summaries wait in a bounded queue. A single writer thread takes as many as are
+ * waiting, up to a Firestore batched write, and writes them together, so a backfill of thousands
+ * of summaries becomes a few large writes instead of thousands of small ones. When the queue is
+ * full, {@link #submit} refuses the whole request, so the sender backs off instead of the server
+ * running out of memory.
+ */
+public class SummaryIngester {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(SummaryIngester.class);
+
+   public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+   public static final int MAX_BATCH_SIZE = FirestoreSummaryStore.MAX_BATCH_WRITES;
+
+   private static final String USER_METRIC = "g_userMetric";
+   private static final int MAX_ATTEMPTS = 3;
+   private static final long RETRY_DELAY_MILLIS = 1000;
+
+   private final GarminSummaryStore myStore;
+   private final ObservationResourceProvider myObservations;
+   private final ProcedureResourceProvider myProcedures;
+   private final PatientResourceProvider myPatients;
+   private final EncodedResponseCache myResponses;
+   // only used by the writer thread
+   private final IParser myParser;
+
+   private final int myQueueCapacity;
+   private final ArrayBlockingQueue<Pending> myQueue;
+   // one permit per free place in the queue, so a request is queued completely or not at all
+   private final Semaphore myFreePlaces;
+   private final Thread myWriter;
+   private volatile boolean myStopped;
+
+   public SummaryIngester(GarminSummaryStore theStore, FhirContext theFhirContext, ObservationResourceProvider theObservations,
+         ProcedureResourceProvider theProcedures, PatientResourceProvider thePatients, EncodedResponseCache theResponses,
+         int theQueueCapacity) {
+      myStore = theStore;
+      myObservations = theObservations;
+      myProcedures = theProcedures;
+      myPatients = thePatients;
+      myResponses = theResponses;
+      myParser = theFhirContext.newJsonParser();
+      myQueueCapacity = theQueueCapacity;
+      myQueue = new ArrayBlockingQueue<Pending>(theQueueCapacity);
+      myFreePlaces = new Semaphore(theQueueCapacity);
+      myWriter = new Thread(this::writeUntilStopped, "summary-ingest");
+      myWriter.setDaemon(true);
+      myWriter.start();
+   }
+
+   /**
+    * @return the name of the collection summaries pushed under theName are written to, or null if
+    *         such summaries cannot be ingested
+    */
+   public static String getCollectionName(String theName) {
+      GarminCollection collection = GarminCollection.fromName(theName);
+      if (collection != null) {
+         return collection.getName();
+      }
+      return USER_METRIC.equalsIgnoreCase(theName) ? USER_METRIC : null;
+   }
+
+   /**
+    * @return the most summaries that can wait to be written at once
+    */
+   public int getQueueCapacity() {
+      return myQueueCapacity;
+   }
+
+   /**
+    * Queues summaries to be written. Each one is written to the document named by its summaryId,
+    * so pushing a summary again replaces it.
+    *
+    * @param theSummaries the fields of each summary by collection name, see {@link #getCollectionName}.
+    *                     Every summary must have a summaryId.
+    * @return false, with nothing queued, if the queue has no room for all of the summaries
+    */
+   public boolean submit(Map<String, List<Map<String, Object>>> theSummaries) {
+      List<Pending> pending = new ArrayList<Pending>();
+      for (Map.Entry<String, List<Map<String, Object>>> next : theSummaries.entrySet()) {
+         for (Map<String, Object> data : next.getValue()) {
+            String summaryId = (String) data.get("summaryId");
+            pending.add(new Pending(next.getKey(), new GarminSummary(summaryId, next.getKey() + "/" + summaryId, data, null)));
+         }
+      }
+      if (myStopped || !myFreePlaces.tryAcquire(pending.size())) {
+         return false;
+      }
+      // never blocks, the permits reserved the places
+      myQueue.addAll(pending);
+      return true;
+   }
+
+   /**
+    * Stops taking summaries and waits until the ones already queued are written.
+    */
+   public void stop(long theTimeoutMillis) throws InterruptedException {
+      myStopped = true;
+      myWriter.join(theTimeoutMillis);
+      if (!myQueue.isEmpty()) {
+         ourLog.warn("Stopped with {} summaries not written", myQueue.size());
+      }
+   }
+
+   private void writeUntilStopped() {
+      List<Pending> batch = new ArrayList<Pending>(MAX_BATCH_SIZE);
+      while (!myStopped || !myQueue.isEmpty()) {
+         try {
+            // wake up now and then to notice being stopped
+            Pending first = myQueue.poll(1, TimeUnit.SECONDS);
+            if (first == null) {
+               continue;
+            }
+            batch.add(first);
+            myQueue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            write(batch);
+         } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ourLog.warn("Interrupted with {} summaries not written", myQueue.size() + batch.size());
+            return;
+         } catch (RuntimeException e) {
+            ourLog.error("Failed to ingest {} summaries", batch.size(), e);
+         } finally {
+            myFreePlaces.release(batch.size());
+            batch.clear();
+         }
+      }
+   }
+
+   private void write(List<Pending> theBatch) throws InterruptedException {
+      long start = System.nanoTime();
+      Map<String, List<Materialized>> byCollection = new LinkedHashMap<String, List<Materialized>>();
+      for (Pending next : theBatch) {
+         List<Materialized> summaries = byCollection.get(next.myCollName);
+         if (summaries == null) {
+            summaries = new ArrayList<Materialized>();
+            byCollection.put(next.myCollName, summaries);
+         }
+         summaries.add(materialize(next.myCollName, next.mySummary));
+      }
+
+      List<List<GarminSummary>> written;
+      for (int attempt = 1; ; attempt++) {
+         List<ApiFuture<List<GarminSummary>>> saves = new ArrayList<ApiFuture<List<GarminSummary>>>();
+         for (Map.Entry<String, List<Materialized>> next : byCollection.entrySet()) {
+            List<GarminSummary> summaries = new ArrayList<GarminSummary>(next.getValue().size());
+            for (Materialized materialized : next.getValue()) {
+               summaries.add(materialized.mySummary);
+            }
+            saves.add(myStore.saveSummaries(next.getKey(), summaries));
+         }
+         try {
+            written = ApiFutures.allAsList(saves).get();
+            break;
+         } catch (ExecutionException e) {
+            if (attempt == MAX_ATTEMPTS) {
+               // some batches may have been written, so what the caches hold may be out of date
+               ourLog.error("Gave up writing {} summaries after {} attempts", theBatch.size(), attempt, e.getCause());
+               forget(byCollection);
+               return;
+            }
+            ourLog.warn("Failed to write {} summaries, trying again", theBatch.size(), e.getCause());
+            Thread.sleep(RETRY_DELAY_MILLIS * attempt);
+         }
+      }
+
+      // in the order of byCollection, as allAsList keeps the order of the saves
+      int i = 0;
+      for (Map.Entry<String, List<Materialized>> next : byCollection.entrySet()) {
+         cache(next.getKey(), next.getValue(), written.get(i++));
+      }
+
+      // a new user metric may be the latest one
+      List<Materialized> metrics = byCollection.get(USER_METRIC);
+      if (metrics != null) {
+         for (Materialized next : metrics) {
+            myPatients.invalidateLatestMetric(next.mySummary.getString("user_id"));
+         }
+      }
+      ourLog.debug("Ingested {} summaries in {} ms", theBatch.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+   }
+
+   // Maps the summary to its resource and adds the resource as JSON, without a version: reads give
+   // the parsed resource the version of the stored summary. A summary that cannot be mapped is still
+   // written, without the resource.
+   private Materialized materialize(String theCollName, GarminSummary theSummary) {
+      Resource resource = null;
+      try {
+         if (GarminCollection.fromName(theCollName) == GarminCollection.MOVE_IQ) {
+            resource = myProcedures.mapUnwritten(theCollName, theSummary);
+         } else if (GarminCollection.fromName(theCollName) != null) {
+            resource = myObservations.mapUnwritten(theCollName, theSummary);
+         }
+      } catch (RuntimeException e) {
+         ourLog.warn("Could not map {}, writing it without the resource", theSummary, e);
+      }
+      if (resource == null) {
+         return new Materialized(theSummary, null);
+      }
+      Map<String, Object> data = new LinkedHashMap<String, Object>(theSummary.getData());
+      data.put(GarminSummary.FHIR_JSON, myParser.encodeResourceToString(resource));
+      return new Materialized(new GarminSummary(theSummary.getId(), theSummary.getPath(), data, null), resource);
+   }
+
+   // Caches the resources of the written summaries with the versions the store gave them, so the
+   // first read after the ingest neither reads the store nor parses the JSON, and its ETag is the one
+   // later reads of the stored summary have. The responses encoded for the old versions are dropped.
+   private void cache(String theCollName, List<Materialized> theSummaries, List<GarminSummary> theWritten) {
+      String resourceType = getResourceType(theCollName);
+      if (resourceType == null) {
+         return;
+      }
+      for (int i = 0; i < theSummaries.size(); i++) {
+         Materialized next = theSummaries.get(i);
+         String id = theCollName + ":" + next.mySummary.getId();
+         if (next.myResource instanceof Procedure) {
+            myProcedures.putWritten(theCollName, theWritten.get(i), (Procedure) next.myResource);
+         } else if (next.myResource instanceof Observation) {
+            myObservations.putWritten(theCollName, theWritten.get(i), (Observation) next.myResource);
+         } else if (resourceType.equals("Procedure")) {
+            myProcedures.invalidate(new IdType(resourceType, id));
+         } else {
+            myObservations.invalidate(new IdType(resourceType, id));
+         }
+         myResponses.invalidate(resourceType, id);
+      }
+   }
+
+   // the type of the resources the summaries of a collection map to, or null if they map to none
+   private static String getResourceType(String theCollName) {
+      GarminCollection collection = GarminCollection.fromName(theCollName);
+      if (collection == null) {
+         return null;
+      }
+      return (collection == GarminCollection.MOVE_IQ) ? "Procedure" : "Observation";
+   }
+
+   // Drops the resources of the summaries from the caches, the next read takes them from the store.
+   private void forget(Map<String, List<Materialized>> theSummaries) {
+      for (Map.Entry<String, List<Materialized>> next : theSummaries.entrySet()) {
+         String resourceType = getResourceType(next.getKey());
+         if (resourceType == null) {
+            continue;
+         }
+         for (Materialized summary : next.getValue()) {
+            String id = next.getKey() + ":" + summary.mySummary.getId();
+            if (resourceType.equals("Procedure")) {
+               myProcedures.invalidate(new IdType(resourceType, id));
+            } else {
+               myObservations.invalidate(new IdType(resourceType, id));
+            }
+            myResponses.invalidate(resourceType, id);
+         }
+      }
+   }
+
+   private static final class Pending {
+      private final String myCollName;
+      private final GarminSummary mySummary;
+
+      private Pending(String theCollName, GarminSummary theSummary) {
+         myCollName = theCollName;
+         mySummary = theSummary;
+      }
+   }
+
+   private static final class Materialized {
+      private final GarminSummary mySummary;
+      // null if the summary is not mapped to a resource
+      private final Resource myResource;
+
+      private Materialized(GarminSummary theSummary, Resource theResource) {
+         mySummary = theSummary;
+         myResource = theResource;
+      }
+   }
+}
@@ -0,0 +1,62 @@
+package ca.uhn.fhir.example;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads Garmin summaries from JSON into the values a {@link GarminSummary} holds. Whole numbers
+ * are read as Longs and all other numbers as Doubles, as the Firestore client returns them, so a
+ * summary read from JSON maps exactly like one read from Firestore.
+ */
+public final class SummaryJson {
+
+   private SummaryJson() {
+   }
+
+   /**
+    * Reads the next value: objects become maps that keep the order of their members, arrays
+    * become lists.
+    */
+   public static Object readValue(JsonReader theReader) throws IOException {
+      JsonToken token = theReader.peek();
+      switch (token) {
+         case BEGIN_OBJECT:
+            Map<String, Object> map = new LinkedHashMap<String, Object>();
+            theReader.beginObject();
+            while (theReader.hasNext()) {
+               map.put(theReader.nextName(), readValue(theReader));
+            }
+            theReader.endObject();
+            return map;
+         case BEGIN_ARRAY:
+            List<Object> list = new ArrayList<Object>();
+            theReader.beginArray();
+            while (theReader.hasNext()) {
+               list.add(readValue(theReader));
+            }
+            theReader.endArray();
+            return list;
+         case STRING:
+            return theReader.nextString();
+         case NUMBER:
+            String number = theReader.nextString();
+            if (number.indexOf('.') == -1 && number.indexOf('e') == -1 && number.indexOf('E') == -1) {
+               return Long.parseLong(number);
+            }
+            return Double.parseDouble(number);
+         case BOOLEAN:
+            return theReader.nextBoolean();
+         case NULL:
+            theReader.nextNull();
+            return null;
+         default:
+            throw new IOException("Unexpected " + token + " at " + theReader.getPath());
+      }
+   }
+}
@@ -0,0 +1,154 @@
+package ca.uhn.fhir.example;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A Garmin time-offset series, such as timeOffsetHeartRateSamples, sorted by offset.
+ *
+ * Garmin stores these series as maps from the offset in seconds (as a string key) to the
+ * sample. Each key is parsed once into a long[] and the samples are kept in a parallel
+ * primitive array, then both are put in offset order with a primitive sort instead of a
+ * comparator that parses both keys on every comparison.
+ */
+public final class TimeSeries {
+
+   private static final TimeSeries EMPTY_LONGS = new TimeSeries(new long[0], new long[0], null);
+   private static final TimeSeries EMPTY_DOUBLES = new TimeSeries(new long[0], null, new double[0]);
+
+   private final long[] myOffsets;
+   private final long[] myLongValues;
+   private final double[] myDoubleValues;
+
+   private TimeSeries(long[] theOffsets, long[] theLongValues, double[] theDoubleValues) {
+      myOffsets = theOffsets;
+      myLongValues = theLongValues;
+      myDoubleValues = theDoubleValues;
+   }
+
+   /**
+    * Reads a series of whole number samples, such as heart rates. Samples that are null are left out.
+    *
+    * @param theSamples the map read from the document, or null
+    * @throws NumberFormatException if a key is not a whole number
+    */
+   public static TimeSeries ofLongs(Map<String, ?> theSamples) {
+      if (theSamples == null || theSamples.isEmpty()) {
+         return EMPTY_LONGS;
+      }
+      long[] offsets = new long[theSamples.size()];
+      long[] values = new long[theSamples.size()];
+      int size = 0;
+      for (Map.Entry<String, ?> next : theSamples.entrySet()) {
+         Object value = next.getValue();
+         if (value != null) {
+            offsets[size] = Long.parseLong(next.getKey());
+            values[size] = ((Number) value).longValue();
+            size++;
+         }
+      }
+      int[] order = sortedOrder(offsets, size);
+      long[] sortedOffsets = new long[size];
+      long[] sortedValues = new long[size];
+      for (int i = 0; i < size; i++) {
+         sortedOffsets[i] = offsets[order[i]];
+         sortedValues[i] = values[order[i]];
+      }
+      return new TimeSeries(sortedOffsets, sortedValues, null);
+   }
+
+   /**
+    * Reads a series of decimal samples, such as breaths per minute. Samples that are null are left out.
+    *
+    * @param theSamples the map read from the document, or null
+    * @throws NumberFormatException if a key is not a whole number
+    */
+   public static TimeSeries ofDoubles(Map<String, ?> theSamples) {
+      if (theSamples == null || theSamples.isEmpty()) {
+         return EMPTY_DOUBLES;
+      }
+      long[] offsets = new long[theSamples.size()];
+      double[] values = new double[theSamples.size()];
+      int size = 0;
+      for (Map.Entry<String, ?> next : theSamples.entrySet()) {
+         Object value = next.getValue();
+         if (value != null) {
+            offsets[size] = Long.parseLong(next.getKey());
+            values[size] = ((Number) value).doubleValue();
+            size++;
+         }
+      }
+      int[] order = sortedOrder(offsets, size);
+      long[] sortedOffsets = new long[size];
+      double[] sortedValues = new double[size];
+      for (int i = 0; i < size; i++) {
+         sortedOffsets[i] = offsets[order[i]];
+         sortedValues[i] = values[order[i]];
+      }
+      return new TimeSeries(sortedOffsets, null, sortedValues);
+   }
+
+   public int size() {
+      return myOffsets.length;
+   }
+
+   public boolean isEmpty() {
+      return myOffsets.length == 0;
+   }
+
+   /**
+    * @return the offset in seconds of the sample at the index, in ascending order
+    */
+   public long getOffset(int theIndex) {
+      return myOffsets[theIndex];
+   }
+
+   /**
+    * @param thePeriodSeconds the period declared on the SampledData
+    * @return the samples as the space separated data of a SampledData whose origin is the first
+    *         offset, with an E for every period that has no sample
+    */
+   public String encode(long thePeriodSeconds) {
+      if (myLongValues != null) {
+         return SampledDataEncoder.encode(myOffsets, myLongValues, myLongValues.length, thePeriodSeconds);
+      }
+      return SampledDataEncoder.encode(myOffsets, myDoubleValues, myDoubleValues.length, thePeriodSeconds);
+   }
+
+   /**
+    * Works out the order of the first theSize offsets. Garmin offsets are seconds from the
+    * start of the summary, so each fits in 32 bits and is packed with its index into one long.
+    * Sorting those longs sorts by offset (and by index for equal offsets) without boxing.
+    */
+   static int[] sortedOrder(long[] theOffsets, int theSize) {
+      int[] order = new int[theSize];
+      long[] packed = new long[theSize];
+      boolean packable = true;
+      for (int i = 0; i < theSize; i++) {
+         long offset = theOffsets[i];
+         if (offset < 0 || offset > Integer.MAX_VALUE) {
+            packable = false;
+            break;
+         }
+         packed[i] = (offset << 32) | i;
+      }
+      if (packable) {
+         Arrays.sort(packed);
+         for (int i = 0; i < theSize; i++) {
+            order[i] = (int) packed[i];
+         }
+         return order;
+      }
+
+      // offsets out of the 32 bit range never come from Garmin, but stay correct if they do
+      Integer[] boxed = new Integer[theSize];
+      for (int i = 0; i < theSize; i++) {
+         boxed[i] = i;
+      }
+      Arrays.sort(boxed, (a, b) -> Long.compare(theOffsets[a], theOffsets[b]));
+      for (int i = 0; i < theSize; i++) {
+         order[i] = boxed[i];
+      }
+      return order;
+   }
+}
@@ -0,0 +1,87 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.server.exceptions.InternalErrorException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CollectionThrottleTest {
+
+   private static final int READS = 2000;
+
+   @Test(timeout = 60000)
+   public void testBoundsReadsInFlight() throws Exception {
+      String collection = "testBoundsReadsInFlight";
+      int permits = CollectionThrottle.getMaxConcurrentReads();
+      AtomicInteger inFlight = new AtomicInteger();
+      AtomicInteger maxInFlight = new AtomicInteger();
+
+      // four times as many request threads as slots, and reads that complete on other threads
+      // a millisecond later, like Firestore's
+      ExecutorService requests = Executors.newFixedThreadPool(permits * 4);
+      ScheduledExecutorService firestore = Executors.newScheduledThreadPool(4);
+      try {
+         List<Future<ApiFuture<String>>> started = new ArrayList<Future<ApiFuture<String>>>();
+         for (int i = 0; i < READS; i++) {
+            started.add(requests.submit(() -> CollectionThrottle.throttle(collection, () -> {
+               maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+               SettableApiFuture<String> read = SettableApiFuture.create();
+               firestore.schedule(() -> {
+                  inFlight.decrementAndGet();
+                  read.set("read");
+               }, 1, TimeUnit.MILLISECONDS);
+               return read;
+            })));
+         }
+         for (Future<ApiFuture<String>> next : started) {
+            assertEquals("read", next.get().get());
+         }
+      } finally {
+         requests.shutdownNow();
+         firestore.shutdownNow();
+      }
+
+      assertTrue("at most " + permits + " reads in flight, but saw " + maxInFlight.get(), maxInFlight.get() <= permits);
+      // the load was high enough to use every slot
+      assertEquals(permits, maxInFlight.get());
+      assertEquals(0, inFlight.get());
+   }
+
+   @Test(timeout = 60000)
+   public void testFailedReadsGiveTheirSlotBack() throws Exception {
+      String collection = "testFailedReadsGiveTheirSlotBack";
+      int permits = CollectionThrottle.getMaxConcurrentReads();
+
+      // twice as many failures as slots, so a slot that was kept would block a later read
+      for (int i = 0; i < permits; i++) {
+         try {
+            CollectionThrottle.throttle(collection, () -> {
+               throw new IllegalStateException("could not start");
+            });
+            fail();
+         } catch (IllegalStateException e) {
+            // expected
+         }
+         SettableApiFuture<String> read = SettableApiFuture.create();
+         CollectionThrottle.throttle(collection, () -> read);
+         read.setException(new InternalErrorException("failed"));
+      }
+
+      SettableApiFuture<String> read = SettableApiFuture.create();
+      assertTrue(read == CollectionThrottle.throttle(collection, () -> read));
+      read.set("read");
+   }
+}
@@ -0,0 +1,176 @@
+package ca.uhn.fhir.example;
+
+import org.hl7.fhir.r4.model.CodeableConcept;
+import org.hl7.fhir.r4.model.Coding;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Quantity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps the components of the g_daily fixture, the rows of the common activity and daily tables,
+ * once with the tables and once with the if-chains setDailyResource used before: every field read
+ * twice and every CodeableConcept built again. The heart rate SampledData and the activity type
+ * are left out of both, since they are still mapped by hand.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=ComponentMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComponentMappingBenchmark {
+
+   private static final String UCUM = "http://unitsofmeasure.org";
+
+   private GarminSummary myDaily;
+
+   @Setup
+   public void setUp() throws Exception {
+      myDaily = LocalSummaryStore.fromClasspath().findSummary("g_daily", "x1a2b3c-6058d0c0-15180").get();
+      List<Observation.ObservationComponentComponent> tables = tables();
+      List<Observation.ObservationComponentComponent> ifChains = ifChains();
+      if (tables.size() != ifChains.size() || tables.size() < 20) {
+         throw new IllegalStateException(tables.size() + " components from the tables, " + ifChains.size() + " from the if-chains");
+      }
+      for (int i = 0; i < tables.size(); i++) {
+         if (!tables.get(i).equalsDeep(ifChains.get(i))) {
+            throw new IllegalStateException("component " + i + " differs");
+         }
+      }
+   }
+
+   @Benchmark
+   public List<Observation.ObservationComponentComponent> tables() {
+      List<Observation.ObservationComponentComponent> retVal = new ArrayList<Observation.ObservationComponentComponent>();
+      ComponentMapping.mapAll(ObservationResourceProvider.COMMON_ACTIVITY_COMPONENTS, myDaily, retVal);
+      ComponentMapping.mapAll(ObservationResourceProvider.DAILY_COMPONENTS, myDaily, retVal);
+      return retVal;
+   }
+
+   // setCommonActivityComponents and setDailyResource before the tables, a block per field
+   @Benchmark
+   public List<Observation.ObservationComponentComponent> ifChains() {
+      GarminSummary document = myDaily;
+      List<Observation.ObservationComponentComponent> retVal = new ArrayList<Observation.ObservationComponentComponent>();
+      if (document.get("activeKilocalories") != null) {
+         retVal.add(quantity(document.getDouble("activeKilocalories"), "http://loinc.org", "93819-1", "Calories burned in unspecified time --during activity", "kcal", "Kilocalories"));
+      }
+      if (document.get("distanceInMeters") != null) {
+         retVal.add(quantity(document.getDouble("distanceInMeters"), "http://loinc.org", "55430-3", "Walking distance unspecified time Pedometer", "m", "meters"));
+      }
+      if (document.get("steps") != null) {
+         retVal.add(count(document.getLong("steps"), "http://loinc.org", "55423-8", "Number of steps in unspecified time Pedometer"));
+      }
+      if (document.get("maxHeartRateInBeatsPerMinute") != null) {
+         retVal.add(quantity(document.getLong("maxHeartRateInBeatsPerMinute"), "http://loinc.org", "55426-1", "Heart rate unspecified time maximum by Pedometer", "bpm", "beats/min"));
+      }
+      if (document.get("minHeartRateInBeatsPerMinute") != null) {
+         retVal.add(quantity(document.getLong("minHeartRateInBeatsPerMinute"), "http://loinc.org", "null", "Heart rate unspecified time minimum by Pedometer", "bpm", "beats/min"));
+      }
+
+      if (document.get("activeTimeInSeconds") != null) {
+         retVal.add(quantity(document.getLong("activeTimeInSeconds"), "urn:iso:std:iso:11073:10101", String.valueOf(Mdc.get32BitCodeFromReferenceId("MDC_HF_ACTIVITY_TIME")), "Active Time", "sec", "seconds"));
+      }
+      if (document.get("restingHeartRateInBeatsPerMinute") != null) {
+         retVal.add(quantity(document.getLong("restingHeartRateInBeatsPerMinute"), "http://loinc.org", "55425-3", "Heart rate unspecified time mean by Pedometer", "bpm", "beats/min"));
+      }
+      if (document.get("averageHeartRateInBeatsPerMinute") != null) {
+         retVal.add(quantity(document.getLong("averageHeartRateInBeatsPerMinute"), "http://loinc.org", "55425-3", "Heart rate unspecified time mean by Pedometer (average of heart rate values captured during the last 7 days in this case)", "bpm", "beats/min"));
+      }
+      if (document.get("bmrKilocalories") != null) {
+         retVal.add(quantity(document.getLong("bmrKilocalories"), "http://loinc.org", "41981-2", "Calories burned (by basal metabolic rate in this case)", "kcal", "Kilocalories"));
+      }
+      if (document.get("consumedCalories") != null) {
+         retVal.add(quantity(document.getLong("consumedCalories"), "http://loinc.org", "9052-2", "Calorie intake total", "kcal", "Kilocalories"));
+      }
+      if (document.get("netKilocaloriesGoal") != null) {
+         retVal.add(quantity(document.getLong("netKilocaloriesGoal"), "https://connect.garmin.com/", "net-Kilocalories-goal-code", "The user’s goal for net caloric intake (consumed calories minus active calories) for this monitoring period.", "kcal", "Kilocalories"));
+      }
+      if (document.get("floorsClimbed") != null) {
+         retVal.add(count(document.getLong("floorsClimbed"), "https://connect.garmin.com/", "floors-climbed-code", "Number of floors climbed during the monitoring period."));
+      }
+      if (document.get("floorsClimbedGoal") != null) {
+         retVal.add(count(document.getLong("floorsClimbedGoal"), "https://connect.garmin.com/", "floors-climbed-goal-code", "The user’s goal for floors climbed in this monitoring period."));
+      }
+      if (document.get("stepsGoal") != null) {
+         retVal.add(count(document.getLong("stepsGoal"), "https://connect.garmin.com/", "steps-goal-code", "The user’s steps goal for this monitoring period."));
+      }
+      if (document.get("moderateIntensityDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("moderateIntensityDurationInSeconds"), "https://connect.garmin.com/", "moderate-intensity-duration-code", "Duration of activities of moderate intensity, lasting at least 600 seconds at a time. Moderate intensity is defined as activity with MET value range 3-6.", "sec", "seconds"));
+      }
+      if (document.get("vigorousIntensityDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("vigorousIntensityDurationInSeconds"), "https://connect.garmin.com/", "vigorous-intensity-duration-code", "Duration of activities of vigorous intensity, lasting at least 600 seconds at a time. Vigorous intensity is defined as activity with MET value > 6.", "sec", "seconds"));
+      }
+      if (document.get("intensityDurationGoalInSeconds") != null) {
+         retVal.add(quantity(document.getLong("intensityDurationGoalInSeconds"), "https://connect.garmin.com/", "intensity-duration-goal-code", "The user’s goal for consecutive seconds of moderate to vigorous intensity activity for this monitoring period.", "sec", "seconds"));
+      }
+      if (document.get("averageStressLevel") != null) {
+         retVal.add(count(document.getLong("averageStressLevel"), "https://connect.garmin.com/", "average-stress-code", "An abstraction of the user’s average stress level in this monitoring period, measured from 1 to 100, or -1 if there is not enough data to calculate average stress. "));
+      }
+      if (document.get("maxStressLevel") != null) {
+         retVal.add(count(document.getLong("maxStressLevel"), "https://connect.garmin.com/", "max-stress-code", "The highest stress level measurement taken during this monitoring period."));
+      }
+      if (document.get("stressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("stressDurationInSeconds"), "https://connect.garmin.com/", "stress-duration-code", "The number of seconds in this monitoring period where stress level measurements were in the stressful range (26-100).", "sec", "seconds"));
+      }
+      if (document.get("restStressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("restStressDurationInSeconds"), "https://connect.garmin.com/", "rest-stress-duration-code", "The number of seconds in this monitoring period where stress level measurements were in the restful range (1 to 25).", "sec", "seconds"));
+      }
+      if (document.get("activityStressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("activityStressDurationInSeconds"), "https://connect.garmin.com/", "activity-stress-duration-code", "The number of seconds in this monitoring period where the user was engaging in physical activity and so stress measurement was unreliable.", "sec", "seconds"));
+      }
+      if (document.get("lowStressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("lowStressDurationInSeconds"), "https://connect.garmin.com/", "low-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the low range (26-50).", "sec", "seconds"));
+      }
+      if (document.get("mediumStressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("mediumStressDurationInSeconds"), "https://connect.garmin.com/", "medium-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the medium range (51-75).", "sec", "seconds"));
+      }
+      if (document.get("highStressDurationInSeconds") != null) {
+         retVal.add(quantity(document.getLong("highStressDurationInSeconds"), "https://connect.garmin.com/", "high-stress-duration-code", "The portion of the user’s stress duration where the measured stress score was in the high range (76-100).", "sec", "seconds"));
+      }
+      if (document.get("stressQualifier") != null) {
+         String measurement = document.getString("stressQualifier");
+         CodeableConcept stressQualifierCode = new CodeableConcept(new Coding("https://connect.garmin.com/", "stress-qualifier-code", "A qualitative label applied based on all stress measurements in this monitoring period. Possible values: unknown, calm, balanced, stressful, very_stressful, calm_awake, balanced_awake, stressful_awake, very_stressful_awake."));
+         stressQualifierCode.setText(measurement);
+         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent();
+         List<CodeableConcept> interpretations = new ArrayList<CodeableConcept>();
+         interpretations.add(stressQualifierCode);
+         measurementObs.setInterpretation(interpretations);
+         retVal.add(measurementObs);
+      }
+      return retVal;
+   }
+
+   private static Observation.ObservationComponentComponent quantity(Long theValue, String theSystem, String theCode, String theDisplay, String theUnit, String theUnitName) {
+      Observation.ObservationComponentComponent retVal = new Observation.ObservationComponentComponent(new CodeableConcept(new Coding(theSystem, theCode, theDisplay)));
+      retVal.setValue(new Quantity(null, theValue, UCUM, theUnit, theUnitName));
+      return retVal;
+   }
+
+   private static Observation.ObservationComponentComponent quantity(Double theValue, String theSystem, String theCode, String theDisplay, String theUnit, String theUnitName) {
+      Observation.ObservationComponentComponent retVal = new Observation.ObservationComponentComponent(new CodeableConcept(new Coding(theSystem, theCode, theDisplay)));
+      retVal.setValue(new Quantity(null, theValue, UCUM, theUnit, theUnitName));
+      return retVal;
+   }
+
+   private static Observation.ObservationComponentComponent count(Long theValue, String theSystem, String theCode, String theDisplay) {
+      Observation.ObservationComponentComponent retVal = new Observation.ObservationComponentComponent(new CodeableConcept(new Coding(theSystem, theCode, theDisplay)));
+      retVal.setValue(new Quantity(theValue));
+      return retVal;
+   }
+}
@@ -0,0 +1,123 @@
+package ca.uhn.fhir.example;
+
+import org.hl7.fhir.r4.model.CodeableConcept;
+import org.hl7.fhir.r4.model.Coding;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Quantity;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pins the components mapped from a table against the ones the hand-written if-chains of
+ * setDailyResource built before, one row of each kind.
+ */
+public class ComponentMappingTest {
+
+   private static final String STRESS_QUALIFIER_DISPLAY = "A qualitative label applied based on all stress measurements in this monitoring period. Possible values: unknown, calm, balanced, stressful, very_stressful, calm_awake, balanced_awake, stressful_awake, very_stressful_awake.";
+
+   private static final ComponentMapping[] TABLE = {
+      ComponentMapping.quantity("activeTimeInSeconds", ComponentMapping.MDC, ComponentMapping.mdcCode("MDC_HF_ACTIVITY_TIME"), "Active Time",
+         ComponentMapping.ValueType.LONG, "sec", "seconds"),
+      ComponentMapping.quantity("activeKilocalories", ComponentMapping.LOINC, "93819-1", "Calories burned in unspecified time --during activity",
+         ComponentMapping.ValueType.DOUBLE, "kcal", "Kilocalories"),
+      ComponentMapping.count("floorsClimbed", ComponentMapping.GARMIN, "floors-climbed-code", "Number of floors climbed during the monitoring period.",
+         ComponentMapping.ValueType.LONG),
+      ComponentMapping.interpretation("stressQualifier", ComponentMapping.GARMIN, "stress-qualifier-code", STRESS_QUALIFIER_DISPLAY)
+   };
+
+   @Test
+   public void testComponentsMatchHandWrittenMapping() {
+      Map<String, Object> data = new HashMap<String, Object>();
+      // numbers as they are read from JSON
+      data.put("activeTimeInSeconds", 3720.0);
+      data.put("activeKilocalories", 321.5);
+      data.put("floorsClimbed", 4.0);
+      data.put("stressQualifier", "balanced");
+      GarminSummary document = new GarminSummary("daily1", "g_daily/daily1", data, null);
+
+      List<Observation.ObservationComponentComponent> components = new ArrayList<Observation.ObservationComponentComponent>();
+      ComponentMapping.mapAll(TABLE, document, components);
+
+      List<Observation.ObservationComponentComponent> expected = handWritten(document);
+      assertEquals(expected.size(), components.size());
+      for (int i = 0; i < expected.size(); i++) {
+         assertTrue("component " + i, expected.get(i).equalsDeep(components.get(i)));
+      }
+   }
+
+   @Test
+   public void testMissingFieldsAreLeftOut() {
+      Map<String, Object> data = new HashMap<String, Object>();
+      data.put("floorsClimbed", 4.0);
+      GarminSummary document = new GarminSummary("daily1", "g_daily/daily1", data, null);
+
+      List<Observation.ObservationComponentComponent> components = new ArrayList<Observation.ObservationComponentComponent>();
+      ComponentMapping.mapAll(TABLE, document, components);
+
+      assertEquals(1, components.size());
+      assertEquals("floors-climbed-code", components.get(0).getCode().getCodingFirstRep().getCode());
+   }
+
+   @Test
+   public void testSharedCodeIsNotModified() {
+      Map<String, Object> data = new HashMap<String, Object>();
+      data.put("stressQualifier", "calm");
+      List<Observation.ObservationComponentComponent> first = new ArrayList<Observation.ObservationComponentComponent>();
+      ComponentMapping.mapAll(TABLE, new GarminSummary("daily1", "g_daily/daily1", data, null), first);
+      data.put("stressQualifier", "stressful");
+      List<Observation.ObservationComponentComponent> second = new ArrayList<Observation.ObservationComponentComponent>();
+      ComponentMapping.mapAll(TABLE, new GarminSummary("daily2", "g_daily/daily2", data, null), second);
+
+      assertEquals("calm", first.get(0).getInterpretationFirstRep().getText());
+      assertEquals("stressful", second.get(0).getInterpretationFirstRep().getText());
+   }
+
+   // What setDailyResource built for these fields before the tables
+   private static List<Observation.ObservationComponentComponent> handWritten(GarminSummary document) {
+      List<Observation.ObservationComponentComponent> theComponentList = new ArrayList<Observation.ObservationComponentComponent>();
+
+      if (document.get("activeTimeInSeconds") != null) {
+         Long measurement = document.getLong("activeTimeInSeconds");
+         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
+            new CodeableConcept(new Coding("urn:iso:std:iso:11073:10101", String.valueOf(Mdc.get32BitCodeFromReferenceId("MDC_HF_ACTIVITY_TIME")), "Active Time")));
+         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "sec", "seconds"));
+         theComponentList.add(measurementObs);
+      }
+
+      if (document.get("activeKilocalories") != null) {
+         Double measurement = document.getDouble("activeKilocalories");
+         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
+            new CodeableConcept(new Coding("http://loinc.org", "93819-1", "Calories burned in unspecified time --during activity")));
+         measurementObs.setValue(new Quantity(null, measurement, "http://unitsofmeasure.org", "kcal", "Kilocalories"));
+         theComponentList.add(measurementObs);
+      }
+
+      if (document.get("floorsClimbed") != null) {
+         Long measurement = document.getLong("floorsClimbed");
+         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent(
+            new CodeableConcept(new Coding("https://connect.garmin.com/", "floors-climbed-code", "Number of floors climbed during the monitoring period.")));
+         measurementObs.setValue(new Quantity(measurement));
+         theComponentList.add(measurementObs);
+      }
+
+      if (document.get("stressQualifier") != null) {
+         String measurement = document.getString("stressQualifier");
+         CodeableConcept stressQualifierCode = new CodeableConcept(new Coding("https://connect.garmin.com/", "stress-qualifier-code", STRESS_QUALIFIER_DISPLAY));
+         stressQualifierCode.setText(measurement);
+         Observation.ObservationComponentComponent measurementObs = new Observation.ObservationComponentComponent();
+         List<CodeableConcept> interpretations = new ArrayList<CodeableConcept>();
+         interpretations.add(stressQualifierCode);
+         measurementObs.setInterpretation(interpretations);
+         theComponentList.add(measurementObs);
+      }
+
+      return theComponentList;
+   }
+}
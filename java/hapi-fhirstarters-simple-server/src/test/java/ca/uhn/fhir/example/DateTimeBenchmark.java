@@ -0,0 +1,63 @@
+package ca.uhn.fhir.example;
+
+import org.hl7.fhir.r4.model.DateTimeType;
+import org.hl7.fhir.r4.model.Period;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds the Period of an activity summary, the two dates every mapped activity Observation has,
+ * with {@link Helper#toDateTime} and the way formatPeriod built it before: each date formatted
+ * with a new SimpleDateFormat and parsed back into a DateTimeType. Run it with the GC profiler to
+ * see the bytes allocated per Period.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=DateTimeBenchmark -Dbenchmark.options="-prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateTimeBenchmark {
+
+   private static final long START = 1616396400L;
+   private static final long OFFSET = -25200L;
+   private static final long DURATION = 86400L;
+
+   @Benchmark
+   public Period toDateTime() {
+      Period retVal = new Period();
+      retVal.setStartElement(Helper.toDateTime(START, OFFSET));
+      retVal.setEndElement(Helper.toDateTime(START + DURATION, OFFSET));
+      return retVal;
+   }
+
+   @Benchmark
+   public Period formatAndParse() {
+      Period retVal = new Period();
+      retVal.setStartElement(new DateTimeType(formatDate(START + OFFSET)));
+      retVal.setEndElement(new DateTimeType(formatDate(START + OFFSET + DURATION)));
+      return retVal;
+   }
+
+   // Helper.formatDate before toDateTime, without printing the date
+   private static String formatDate(long theUnixTimeStamp) {
+      Date date = new Date(theUnixTimeStamp * 1000L);
+      SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+      sdf.setTimeZone(TimeZone.getTimeZone("GMT-7"));
+      return sdf.format(date);
+   }
+}
@@ -0,0 +1,104 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.parser.IParser;
+import org.hl7.fhir.r4.model.IdType;
+import org.hl7.fhir.r4.model.Observation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Measures what {@link EncodedResponseCache} saves on a read of a large g_daily Observation, a
+ * whole day of 15 second heart rate samples: encoding the resource as JSON, and gzipping it, as
+ * the server does for every read, against writing the bytes the cache kept. The Observation is
+ * read through ObservationResourceProvider from a LocalSummaryStore, like the server reads it.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=EncodedResponseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodedResponseBenchmark {
+
+   private static final int HEART_RATES = 24 * 60 * 4;
+
+   private IParser myParser;
+   private Observation myDaily;
+   private EncodedResponseCache.Encoded myEncoded;
+   private ByteArrayOutputStream myOut;
+
+   @Setup
+   public void setUp() throws Exception {
+      GarminSummary fixture = LocalSummaryStore.fromClasspath().findSummary("g_daily", "x1a2b3c-6058d0c0-15180").get();
+      Map<String, Object> data = new LinkedHashMap<String, Object>(fixture.getData());
+      Random random = new Random(HEART_RATES);
+      Map<String, Object> heartRates = new LinkedHashMap<String, Object>();
+      for (int i = 0; i < HEART_RATES; i++) {
+         heartRates.put(String.valueOf(i * 15), (long) (45 + random.nextInt(120)));
+      }
+      data.put("timeOffsetHeartRateSamples", heartRates);
+      Map<String, GarminSummary> daily = new HashMap<String, GarminSummary>();
+      daily.put("day", new GarminSummary("day", "g_daily/day", data, null));
+      Map<String, Map<String, GarminSummary>> collections = new HashMap<String, Map<String, GarminSummary>>();
+      collections.put("g_daily", daily);
+
+      FhirContext ctx = FhirContext.forR4();
+      ObservationResourceProvider provider = new ObservationResourceProvider(new LocalSummaryStore(collections), ResourceCache.DEFAULT_TIME_TO_LIVE_SECONDS, ctx);
+      myDaily = provider.read(new IdType("Observation", "g_daily:" + data.get("summaryId")), null);
+      myParser = ctx.newJsonParser();
+      byte[] bytes = encode();
+      myEncoded = new EncodedResponseCache.Encoded(myDaily.getMeta().getVersionId(), bytes);
+      myEncoded.getGzipped();
+      myOut = new ByteArrayOutputStream(bytes.length);
+   }
+
+   @Benchmark
+   public byte[] encode() {
+      return myParser.encodeResourceToString(myDaily).getBytes(StandardCharsets.UTF_8);
+   }
+
+   @Benchmark
+   public int encodeAndGzip() throws IOException {
+      myOut.reset();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(myOut)) {
+         gzip.write(encode());
+      }
+      return myOut.size();
+   }
+
+   @Benchmark
+   public int cached() {
+      myOut.reset();
+      myOut.write(myEncoded.getBytes(), 0, myEncoded.getBytes().length);
+      return myOut.size();
+   }
+
+   @Benchmark
+   public int cachedGzipped() throws IOException {
+      myOut.reset();
+      byte[] gzipped = myEncoded.getGzipped();
+      myOut.write(gzipped, 0, gzipped.length);
+      return myOut.size();
+   }
+}
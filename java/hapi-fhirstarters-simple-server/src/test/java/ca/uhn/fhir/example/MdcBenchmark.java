@@ -0,0 +1,89 @@
+package ca.uhn.fhir.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Mdc#get32BitCodeFromReferenceId} with the scan it replaced, over the reference
+ * IDs the Observation mappers look up. The scan walks a HashMap filled like the old tables, from
+ * mdc-baseline.tsv.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=MdcBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MdcBenchmark {
+
+    private static final String[] REFERENCE_IDS = {
+        "MDC_HF_ACTIVITY_TIME", "MDC_HF_ALT_GAIN", "MDC_HF_ALT_LOSS", "MDC_HF_CAD", "MDC_HF_SPEED",
+        "MDC_HF_ACT_RUN", "MDC_HF_ACT_WALK", "MDC_HF_ACT_BIKE"
+    };
+
+    private Map<Long, String> myRefIds;
+
+    @Setup
+    public void setUp() throws IOException {
+        myRefIds = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                MdcBenchmark.class.getResourceAsStream("/mdc-baseline.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] next = line.split("\t", -1);
+                if (!line.startsWith("#") && !next[2].isEmpty()) {
+                    myRefIds.put(Long.parseLong(next[0]), next[2]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the sum of the codes, so the lookups are not optimized away
+     */
+    @Benchmark
+    public long scan() {
+        long retVal = 0;
+        for (String next : REFERENCE_IDS) {
+            retVal += scan(next);
+        }
+        return retVal;
+    }
+
+    @Benchmark
+    public long index() {
+        long retVal = 0;
+        for (String next : REFERENCE_IDS) {
+            retVal += Mdc.get32BitCodeFromReferenceId(next);
+        }
+        return retVal;
+    }
+
+    // get32BitCodeFromReferenceId before the index
+    private Long scan(String theReferenceId) {
+        for (Map.Entry<Long, String> entry : myRefIds.entrySet()) {
+            if (entry.getValue().equalsIgnoreCase(theReferenceId)) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+}
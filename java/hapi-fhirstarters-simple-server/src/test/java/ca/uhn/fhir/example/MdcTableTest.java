@@ -0,0 +1,49 @@
+package ca.uhn.fhir.example;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MdcTableTest {
+
+    @Test
+    public void testLookupAcrossTheWholeCodeRange() {
+        MdcTable table = new MdcTable.Builder()
+                .put(0xFFFFFFFFL, "highest")
+                .put(0x80000000L, "sign bit")
+                .put(0x7FFFFFFFL, "below sign bit")
+                .put(Mdc.get32BitCode(Mdc.MDC_PART_SCADA, 19384), "SpO2")
+                .put(0, "zero")
+                .build();
+
+        assertEquals(5, table.size());
+        for (int i = 1; i < table.size(); i++) {
+            assertEquals(true, table.codeAt(i - 1) < table.codeAt(i));
+        }
+        assertEquals("highest", table.get(0xFFFFFFFFL));
+        assertEquals("sign bit", table.get(0x80000000L));
+        assertEquals("below sign bit", table.get(0x7FFFFFFFL));
+        assertEquals("SpO2", table.get(Mdc.get32BitCode(Mdc.MDC_PART_SCADA, 19384)));
+        assertEquals("zero", table.get(0));
+        assertNull(table.get(0x80000001L));
+    }
+
+    @Test
+    public void testLastValueForACodeWins() {
+        MdcTable table = new MdcTable.Builder()
+                .put(0x90000000L, "first")
+                .put(5, "five")
+                .put(0x90000000L, "second")
+                .build();
+
+        assertEquals(2, table.size());
+        assertEquals("second", table.get(0x90000000L));
+        assertEquals("five", table.get(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCodeAbove32BitsIsRejected() {
+        new MdcTable.Builder().put(0x100000000L, "too big");
+    }
+}
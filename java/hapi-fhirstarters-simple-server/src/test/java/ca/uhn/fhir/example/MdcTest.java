@@ -0,0 +1,104 @@
+package ca.uhn.fhir.example;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Pins the lookups of {@link Mdc} to those of the HashMap tables it replaced. mdc-baseline.tsv
+ * was written by the old implementation: one line per code it knew, with its description, its
+ * reference identifier and the code that reference identifier was resolved back to.
+ */
+public class MdcTest {
+
+    @Test
+    public void testCodeLookupsMatchBaseline() throws IOException {
+        for (String[] next : readBaseline()) {
+            long code = Long.parseLong(next[0]);
+            assertEquals("description of " + code, next[1], Mdc.getStringFromCode(code));
+            assertEquals("reference ID of " + code, emptyToNull(next[2]), Mdc.getReferenceIdFromCode(code));
+        }
+    }
+
+    @Test
+    public void testReferenceIdLookupsMatchBaseline() throws IOException {
+        List<String[]> baseline = readBaseline();
+        Map<String, Integer> refIdCounts = new HashMap<>();
+        for (String[] next : baseline) {
+            if (!next[2].isEmpty()) {
+                refIdCounts.merge(next[2].toUpperCase(Locale.ROOT), 1, Integer::sum);
+            }
+        }
+
+        for (String[] next : baseline) {
+            String refId = next[2];
+            if (refId.isEmpty() || refId.equals("Private Attribute")) {
+                continue;
+            }
+            Long code = Mdc.get32BitCodeFromReferenceId(refId);
+            if (refIdCounts.get(refId.toUpperCase(Locale.ROOT)) == 1) {
+                assertEquals("code of " + refId, Long.valueOf(next[3]), code);
+                assertEquals(Integer.valueOf((int) (code >> 16)), Mdc.getPartitionCodeFromReferenceId(refId));
+                assertEquals(Integer.valueOf((int) (code & 0xFFFF)), Mdc.getTermCodeFromReferenceId(refId));
+            } else {
+                // the old lookup returned whichever code its HashMap iterated to first, so only
+                // require one of the codes with the reference ID
+                assertTrue("code of " + refId, refId.equalsIgnoreCase(Mdc.getReferenceIdFromCode(code)));
+            }
+        }
+    }
+
+    @Test
+    public void testReferenceIdLookupIgnoresCase() {
+        Long code = Mdc.get32BitCodeFromReferenceId("MDC_MOC_VMO_METRIC");
+        assertEquals(Long.valueOf(65540), code);
+        assertEquals(code, Mdc.get32BitCodeFromReferenceId("mdc_moc_vmo_metric"));
+        assertNull(Mdc.get32BitCodeFromReferenceId("MDC_NOT_A_REFERENCE_ID"));
+        assertNull(Mdc.get32BitCodeFromReferenceId(null));
+    }
+
+    @Test
+    public void testUnknownCodes() {
+        assertEquals("unknown code 65539", Mdc.getStringFromCode(65539));
+        assertNull(Mdc.getReferenceIdFromCode(65539));
+
+        long privateCode = Mdc.get32BitCode(Mdc.MDC_PART_OBJ, 0xF0FF);
+        assertEquals("Unknown Private Attribute " + privateCode, Mdc.getStringFromCode(privateCode));
+        assertEquals("Private Attribute", Mdc.getReferenceIdFromCode(privateCode));
+
+        // outside of any partition
+        assertEquals("Unknown Private Attribute -1", Mdc.getStringFromCode(-1));
+        assertEquals("unknown code " + (1000L << 16), Mdc.getStringFromCode(1000L << 16));
+    }
+
+    private static String emptyToNull(String theValue) {
+        return theValue.isEmpty() ? null : theValue;
+    }
+
+    private static List<String[]> readBaseline() throws IOException {
+        List<String[]> retVal = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                MdcTest.class.getResourceAsStream("/mdc-baseline.tsv"), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.startsWith("#")) {
+                    retVal.add(line.split("\t", -1));
+                }
+            }
+        }
+        assertTrue(retVal.size() > 1000);
+        return retVal;
+    }
+}
@@ -0,0 +1,97 @@
+package ca.uhn.fhir.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the SampledData data of a day of 15 second heart rate samples, 5,760 values, and of a
+ * day of respiration rates, one a minute, with SampledDataEncoder and with the += loop the vitals
+ * mappers used before. Both start from samples that are already sorted.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=SampledDataEncoderBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SampledDataEncoderBenchmark {
+
+   private static final int HEART_RATES = 24 * 60 * 4;
+   private static final int RESPIRATION_RATES = 24 * 60;
+
+   private Map<String, Long> myHeartRateMap;
+   private long[] myHeartRateOffsets;
+   private long[] myHeartRates;
+   private Map<String, Double> myRespirationMap;
+   private long[] myRespirationOffsets;
+   private double[] myRespirationRates;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(5760);
+      myHeartRateMap = new LinkedHashMap<String, Long>();
+      myHeartRateOffsets = new long[HEART_RATES];
+      myHeartRates = new long[HEART_RATES];
+      for (int i = 0; i < HEART_RATES; i++) {
+         myHeartRateOffsets[i] = i * 15;
+         myHeartRates[i] = 45 + random.nextInt(120);
+         myHeartRateMap.put(String.valueOf(myHeartRateOffsets[i]), myHeartRates[i]);
+      }
+      myRespirationMap = new LinkedHashMap<String, Double>();
+      myRespirationOffsets = new long[RESPIRATION_RATES];
+      myRespirationRates = new double[RESPIRATION_RATES];
+      for (int i = 0; i < RESPIRATION_RATES; i++) {
+         myRespirationOffsets[i] = i * 60;
+         myRespirationRates[i] = (100 + random.nextInt(150)) / 10.0;
+         myRespirationMap.put(String.valueOf(myRespirationOffsets[i]), myRespirationRates[i]);
+      }
+      if (!concatenateHeartRates().equals(encodeHeartRates()) || !concatenateRespirationRates().equals(encodeRespirationRates())) {
+         throw new IllegalStateException("the encoder does not write what += wrote");
+      }
+   }
+
+   @Benchmark
+   public String encodeHeartRates() {
+      return SampledDataEncoder.encode(myHeartRateOffsets, myHeartRates, HEART_RATES, 15);
+   }
+
+   @Benchmark
+   public String concatenateHeartRates() {
+      return concatenate(myHeartRateMap);
+   }
+
+   @Benchmark
+   public String encodeRespirationRates() {
+      return SampledDataEncoder.encode(myRespirationOffsets, myRespirationRates, RESPIRATION_RATES, 60);
+   }
+
+   @Benchmark
+   public String concatenateRespirationRates() {
+      return concatenate(myRespirationMap);
+   }
+
+   // the loop of the vitals mappers before SampledDataEncoder, without the println per sample
+   private static String concatenate(Map<String, ?> theSortedSamples) {
+      String timeSeriesData = "";
+      for (Map.Entry<String, ?> entry : theSortedSamples.entrySet()) {
+         timeSeriesData += entry.getValue();
+         timeSeriesData += " ";
+      }
+      return timeSeriesData.substring(0, timeSeriesData.length() - 1);
+   }
+}
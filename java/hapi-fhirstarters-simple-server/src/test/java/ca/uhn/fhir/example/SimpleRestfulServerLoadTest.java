@@ -0,0 +1,269 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.junit.Assume;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compares the two ways SimpleRestfulServer runs requests, on the container's threads and on a
+ * virtual thread each, under many clients reading Observations and Procedures at once.
+ *
+ * The summaries come from the local fixtures through a stand-in for Firestore, which answers
+ * every read after -Dloadtest.latencyMillis (default 20) on its own threads and takes a
+ * CollectionThrottle slot for it, as FirestoreSummaryStore does. The caches are turned off, so
+ * every request reads the store. The server runs in embedded Jetty with its default pool of 200
+ * threads, and the clients in the same JVM.
+ *
+ * Only runs when asked for, and the virtual thread mode needs a Java 21+ runtime, e.g.
+ * JAVA_HOME=/path/to/jdk-21 mvn test -Dtest=SimpleRestfulServerLoadTest -Dloadtest=true
+ * -Dloadtest.clients=1000 -Dloadtest.seconds=20
+ */
+public class SimpleRestfulServerLoadTest {
+
+   private static final Logger ourLog = LoggerFactory.getLogger(SimpleRestfulServerLoadTest.class);
+
+   private static final String[] PATHS = {
+      "Observation/g_daily:x1a2b3c-6058d0c0-15180",
+      "Observation/g_respiration:x1a2b3c-6058e3b1",
+      "Observation/g_pulseOx:x1a2b3c-6058e3b1-spo2",
+      "Observation/g_stress:x1a2b3c-stress-6058e3b1",
+      "Observation/g_epoch:x1a2b3c-6058e3b1-0",
+      "Procedure/g_moveIq:x1a2b3c-6058e3b1-moveiq"
+   };
+
+   @Test
+   public void testPlatformAndVirtualThreads() throws Exception {
+      Assume.assumeTrue(Boolean.getBoolean("loadtest"));
+      int clients = Integer.getInteger("loadtest.clients", 1000);
+      int seconds = Integer.getInteger("loadtest.seconds", 20);
+      // every client keeps its connection open between requests
+      System.setProperty("http.maxConnections", Integer.toString(clients));
+
+      Result platform = run(null, clients, seconds);
+      ourLog.info("Platform threads: {}", platform);
+      Result virtual = run("virtual", clients, seconds);
+      ourLog.info("Virtual threads: {}", virtual);
+
+      assertTrue(platform.toString(), platform.myLatencies.length > 0);
+      assertTrue(virtual.toString(), virtual.myLatencies.length > 0);
+   }
+
+   private Result run(String theExecutionMode, int theClients, int theSeconds) throws Exception {
+      long latencyMillis = Long.getLong("loadtest.latencyMillis", 20);
+      System.setProperty("store", "local");
+      System.setProperty("observation.stalenessSeconds", "0");
+      if (theExecutionMode != null) {
+         System.setProperty("server.executionMode", theExecutionMode);
+      }
+      Server server = new Server(0);
+      try {
+         ServletContextHandler context = new ServletContextHandler();
+         ServletHolder holder = new ServletHolder(new SimpleRestfulServer() {
+            @Override
+            protected GarminSummaryStore createSummaryStore() throws IOException {
+               return new SlowSummaryStore(super.createSummaryStore(), latencyMillis);
+            }
+         });
+         holder.setAsyncSupported(true);
+         context.addServlet(holder, "/*");
+         server.setHandler(context);
+         server.start();
+         String base = "http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort() + "/";
+
+         // the first seconds warm up the JIT and the connections, and are not counted
+         load(base, theClients, Math.max(theSeconds / 4, 1));
+         return load(base, theClients, theSeconds);
+      } finally {
+         server.stop();
+         System.clearProperty("server.executionMode");
+         System.clearProperty("observation.stalenessSeconds");
+         System.clearProperty("store");
+      }
+   }
+
+   // every client reads one resource after the other, for theSeconds
+   private static Result load(String theBase, int theClients, int theSeconds) throws InterruptedException {
+      long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(theSeconds);
+      List<long[]> latencies = new ArrayList<long[]>();
+      int[] counts = new int[theClients];
+      AtomicLong errors = new AtomicLong();
+      CountDownLatch done = new CountDownLatch(theClients);
+      for (int i = 0; i < theClients; i++) {
+         int client = i;
+         long[] clientLatencies = new long[1024];
+         latencies.add(clientLatencies);
+         Thread thread = new Thread(() -> {
+            long[] own = clientLatencies;
+            try {
+               for (int request = client; System.nanoTime() < end; request++) {
+                  long start = System.nanoTime();
+                  if (!get(theBase + PATHS[request % PATHS.length])) {
+                     errors.incrementAndGet();
+                     continue;
+                  }
+                  if (counts[client] == own.length) {
+                     own = Arrays.copyOf(own, own.length * 2);
+                     synchronized (latencies) {
+                        latencies.set(client, own);
+                     }
+                  }
+                  own[counts[client]++] = System.nanoTime() - start;
+               }
+            } finally {
+               done.countDown();
+            }
+         }, "load-client-" + i);
+         thread.setDaemon(true);
+         thread.start();
+      }
+      done.await();
+
+      int total = 0;
+      for (int next : counts) {
+         total += next;
+      }
+      long[] all = new long[total];
+      int filled = 0;
+      synchronized (latencies) {
+         for (int i = 0; i < theClients; i++) {
+            System.arraycopy(latencies.get(i), 0, all, filled, counts[i]);
+            filled += counts[i];
+         }
+      }
+      Arrays.sort(all);
+      return new Result(all, errors.get(), theSeconds);
+   }
+
+   private static boolean get(String theUrl) {
+      try {
+         HttpURLConnection connection = (HttpURLConnection) new URL(theUrl).openConnection();
+         connection.setRequestProperty("Accept", "application/fhir+json");
+         int status = connection.getResponseCode();
+         InputStream body = (status < 400) ? connection.getInputStream() : connection.getErrorStream();
+         if (body != null) {
+            // read to the end, so the connection is kept for the next request
+            try (InputStream in = body) {
+               byte[] buffer = new byte[8192];
+               while (in.read(buffer) != -1) {
+                  // only the time matters
+               }
+            }
+         }
+         return status == 200;
+      } catch (IOException e) {
+         return false;
+      }
+   }
+
+   private static final class Result {
+      private final long[] myLatencies;
+      private final long myErrors;
+      private final int mySeconds;
+
+      private Result(long[] theSortedLatencies, long theErrors, int theSeconds) {
+         myLatencies = theSortedLatencies;
+         myErrors = theErrors;
+         mySeconds = theSeconds;
+      }
+
+      private double percentileMillis(double thePercentile) {
+         if (myLatencies.length == 0) {
+            return Double.NaN;
+         }
+         int index = (int) Math.min(myLatencies.length - 1, Math.ceil(thePercentile / 100 * myLatencies.length) - 1);
+         return myLatencies[Math.max(index, 0)] / 1e6;
+      }
+
+      @Override
+      public String toString() {
+         return String.format("%d requests in %d s, %.0f requests/s, p50 %.1f ms, p99 %.1f ms, %d errors", myLatencies.length, mySeconds,
+            (double) myLatencies.length / mySeconds, percentileMillis(50), percentileMillis(99), myErrors);
+      }
+   }
+
+   // Answers from another store after a delay, on its own threads, holding a CollectionThrottle
+   // slot as a Firestore read does.
+   private static final class SlowSummaryStore implements GarminSummaryStore {
+      private static final ScheduledExecutorService ourReplies = new ScheduledThreadPoolExecutor(4,
+         new ThreadFactoryBuilder().setNameFormat("slow-store-%d").setDaemon(true).build());
+
+      private final GarminSummaryStore myStore;
+      private final long myLatencyMillis;
+
+      private SlowSummaryStore(GarminSummaryStore theStore, long theLatencyMillis) {
+         myStore = theStore;
+         myLatencyMillis = theLatencyMillis;
+      }
+
+      private <T> ApiFuture<T> slow(String theCollName, Supplier<ApiFuture<T>> theRead) {
+         return CollectionThrottle.throttle(theCollName, () -> {
+            SettableApiFuture<T> retVal = SettableApiFuture.create();
+            ourReplies.schedule(() -> {
+               try {
+                  retVal.set(theRead.get().get());
+               } catch (Exception e) {
+                  retVal.setException(e);
+               }
+            }, myLatencyMillis, TimeUnit.MILLISECONDS);
+            return retVal;
+         });
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId) {
+         return slow(theCollName, () -> myStore.findSummary(theCollName, theSummaryId));
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findSummaryVersion(String theCollName, String theSummaryId) {
+         return slow(theCollName, () -> myStore.findSummaryVersion(theCollName, theSummaryId));
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> findSummaries(String theCollName, Collection<String> theSummaryIds) {
+         return slow(theCollName, () -> myStore.findSummaries(theCollName, theSummaryIds));
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> searchSummaries(ObservationSearch.Target theTarget, String theUserId, DateRangeParam theDate,
+            GarminSummary theAfter, int theCount) {
+         return slow(theTarget.getCollection().getName(), () -> myStore.searchSummaries(theTarget, theUserId, theDate, theAfter, theCount));
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findLatestUserMetric(String theUserId) {
+         return slow("g_userMetric", () -> myStore.findLatestUserMetric(theUserId));
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> saveSummaries(String theCollName, List<GarminSummary> theSummaries) {
+         return myStore.saveSummaries(theCollName, theSummaries);
+      }
+   }
+}
@@ -0,0 +1,265 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.context.FhirContext;
+import ca.uhn.fhir.rest.client.api.IGenericClient;
+import ca.uhn.fhir.rest.client.api.ServerValidationModeEnum;
+import ca.uhn.fhir.rest.param.DateRangeParam;
+import ca.uhn.fhir.rest.server.exceptions.ResourceNotFoundException;
+import com.google.api.core.ApiFuture;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.hl7.fhir.r4.model.Bundle;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Patient;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Boots the server with -Dstore=local, the way the README runs it, and reads and searches the
+ * fixtures on the classpath over HTTP.
+ */
+public class SimpleRestfulServerLocalStoreTest {
+
+   private static Server ourServer;
+   private static CountingSummaryStore ourStore;
+   private static String ourBase;
+   private static IGenericClient ourClient;
+
+   @BeforeClass
+   public static void startServer() throws Exception {
+      System.setProperty("store", "local");
+
+      ourServer = new Server(0);
+      ServletContextHandler context = new ServletContextHandler();
+      ServletHolder holder = new ServletHolder(new SimpleRestfulServer() {
+         @Override
+         protected GarminSummaryStore createSummaryStore() throws IOException {
+            ourStore = new CountingSummaryStore(super.createSummaryStore());
+            return ourStore;
+         }
+      });
+      holder.setAsyncSupported(true);
+      context.addServlet(holder, "/*");
+      ourServer.setHandler(context);
+      ourServer.start();
+
+      int port = ((ServerConnector) ourServer.getConnectors()[0]).getLocalPort();
+      FhirContext ctx = FhirContext.forR4();
+      ctx.getRestfulClientFactory().setServerValidationMode(ServerValidationModeEnum.NEVER);
+      ourBase = "http://localhost:" + port + "/";
+      ourClient = ctx.newRestfulGenericClient(ourBase);
+   }
+
+   @AfterClass
+   public static void stopServer() throws Exception {
+      if (ourServer != null) {
+         ourServer.stop();
+      }
+      System.clearProperty("store");
+   }
+
+   @Test
+   public void testReadDaily() {
+      Observation daily = ourClient.read().resource(Observation.class).withId("g_daily:x1a2b3c-6058d0c0-15180").execute();
+
+      assertEquals("g_daily:x1a2b3c-6058d0c0-15180", daily.getIdElement().getIdPart());
+      assertEquals("Patient/g2", daily.getSubject().getReference());
+      boolean floorsClimbed = false;
+      for (Observation.ObservationComponentComponent next : daily.getComponent()) {
+         if ("floors-climbed-code".equals(next.getCode().getCodingFirstRep().getCode())) {
+            assertEquals(7, next.getValueQuantity().getValue().intValue());
+            floorsClimbed = true;
+         }
+      }
+      assertTrue(floorsClimbed);
+   }
+
+   @Test
+   public void testReadVitalsWithGaps() {
+      Observation respiration = ourClient.read().resource(Observation.class).withId("g_respiration:x1a2b3c-6058e3b1").execute();
+      assertEquals("14.2 17.8 19.2 E 15.1", respiration.getValueSampledData().getData());
+
+      Observation pulseOx = ourClient.read().resource(Observation.class).withId("g_pulseOx:x1a2b3c-6058e3b1-spo2").execute();
+      assertEquals("96 97 95 97", pulseOx.getValueSampledData().getData());
+   }
+
+   @Test
+   public void testRepeatedReadSendsSameBytes() throws Exception {
+      String url = ourBase + "Observation/g_daily:x1a2b3c-6058d0c0-15180";
+      HttpURLConnection first = get(url, null);
+      assertEquals(200, first.getResponseCode());
+      assertEquals("gzip", first.getHeaderField("Content-Encoding"));
+      String eTag = first.getHeaderField("ETag");
+      assertTrue(eTag, eTag.matches("\"[^\"-]+-[0-9a-f]{16}\""));
+      byte[] body = readGzipped(first);
+
+      HttpURLConnection second = get(url, null);
+      assertEquals(200, second.getResponseCode());
+      assertEquals(eTag, second.getHeaderField("ETag"));
+      assertArrayEquals(body, readGzipped(second));
+      Observation daily = FhirContext.forR4().newJsonParser().parseResource(Observation.class, new String(body, StandardCharsets.UTF_8));
+      assertEquals("g_daily:x1a2b3c-6058d0c0-15180", daily.getIdElement().getIdPart());
+
+      HttpURLConnection conditional = get(url, eTag);
+      assertEquals(304, conditional.getResponseCode());
+   }
+
+   @Test
+   public void testConditionalReadLooksUpOnlyTheVersion() throws Exception {
+      // not read by any other test, so not cached
+      String version = LocalSummaryStore.fromClasspath().findSummary("g_moveIq", "x1a2b3c-6058e3b1-moveiq").get().getVersion();
+      String url = ourBase + "Procedure/g_moveIq:x1a2b3c-6058e3b1-moveiq";
+      int summaryReads = ourStore.mySummaryReads.get();
+      int versionReads = ourStore.myVersionReads.get();
+
+      HttpURLConnection current = get(url, "W/\"" + version + "\"");
+      assertEquals(304, current.getResponseCode());
+      assertEquals(versionReads + 1, ourStore.myVersionReads.get());
+      assertEquals(summaryReads, ourStore.mySummaryReads.get());
+
+      HttpURLConnection stale = get(url, "W/\"0\"");
+      assertEquals(200, stale.getResponseCode());
+      assertEquals(versionReads + 2, ourStore.myVersionReads.get());
+      assertEquals(summaryReads + 1, ourStore.mySummaryReads.get());
+   }
+
+   @Test(expected = ResourceNotFoundException.class)
+   public void testReadUnknownSummary() {
+      ourClient.read().resource(Observation.class).withId("g_daily:no-such-summary").execute();
+   }
+
+   @Test
+   public void testReadPatientFromLatestMetric() {
+      Patient patient = ourClient.read().resource(Patient.class).withId("g2").execute();
+      assertEquals("g2", patient.getIdentifierFirstRep().getValue());
+   }
+
+   @Test
+   public void testSearchBySubject() {
+      Bundle bundle = ourClient.search().forResource(Observation.class)
+         .where(Observation.SUBJECT.hasId("Patient/g2"))
+         .returnBundle(Bundle.class).execute();
+
+      Set<String> ids = getIdParts(bundle);
+      assertEquals(6, ids.size());
+      assertTrue(ids.contains("g_daily:x1a2b3c-6058d0c0-15180"));
+      assertTrue(ids.contains("g_epoch:x1a2b3c-6058e3b1-0"));
+      assertTrue(ids.contains("g_epoch:x1a2b3c-6058e3b1-1"));
+   }
+
+   @Test
+   public void testSearchByCategory() {
+      Bundle bundle = ourClient.search().forResource(Observation.class)
+         .where(Observation.SUBJECT.hasId("Patient/g2"))
+         .and(Observation.CATEGORY.exactly().systemAndCode(ObservationSearch.CATEGORY_SYSTEM, ObservationSearch.VITAL_SIGNS))
+         .returnBundle(Bundle.class).execute();
+
+      Set<String> expected = new HashSet<String>();
+      expected.add("g_respiration:x1a2b3c-6058e3b1");
+      expected.add("g_pulseOx:x1a2b3c-6058e3b1-spo2");
+      expected.add("g_stress:x1a2b3c-stress-6058e3b1");
+      assertEquals(expected, getIdParts(bundle));
+   }
+
+   @Test
+   public void testSearchOfUnknownSubject() {
+      Bundle bundle = ourClient.search().forResource(Observation.class)
+         .where(Observation.SUBJECT.hasId("Patient/g999"))
+         .returnBundle(Bundle.class).execute();
+      assertTrue(bundle.getEntry().isEmpty());
+   }
+
+   private static HttpURLConnection get(String theUrl, String theIfNoneMatch) throws Exception {
+      HttpURLConnection retVal = (HttpURLConnection) new URL(theUrl).openConnection();
+      retVal.setRequestProperty("Accept", "application/fhir+json");
+      retVal.setRequestProperty("Accept-Encoding", "gzip");
+      if (theIfNoneMatch != null) {
+         retVal.setRequestProperty("If-None-Match", theIfNoneMatch);
+      }
+      return retVal;
+   }
+
+   private static byte[] readGzipped(HttpURLConnection theConnection) throws Exception {
+      try (InputStream in = new GZIPInputStream(theConnection.getInputStream())) {
+         ByteArrayOutputStream retVal = new ByteArrayOutputStream();
+         byte[] buffer = new byte[8192];
+         int read;
+         while ((read = in.read(buffer)) != -1) {
+            retVal.write(buffer, 0, read);
+         }
+         return retVal.toByteArray();
+      }
+   }
+
+   private static Set<String> getIdParts(Bundle theBundle) {
+      Set<String> retVal = new HashSet<String>();
+      for (Bundle.BundleEntryComponent next : theBundle.getEntry()) {
+         retVal.add(next.getResource().getIdElement().getIdPart());
+      }
+      return retVal;
+   }
+
+   // the local store, counting the lookups of single summaries
+   private static final class CountingSummaryStore implements GarminSummaryStore {
+      private final GarminSummaryStore myStore;
+      private final AtomicInteger mySummaryReads = new AtomicInteger();
+      private final AtomicInteger myVersionReads = new AtomicInteger();
+
+      private CountingSummaryStore(GarminSummaryStore theStore) {
+         myStore = theStore;
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId) {
+         mySummaryReads.incrementAndGet();
+         return myStore.findSummary(theCollName, theSummaryId);
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findSummaryVersion(String theCollName, String theSummaryId) {
+         myVersionReads.incrementAndGet();
+         return myStore.findSummaryVersion(theCollName, theSummaryId);
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> findSummaries(String theCollName, Collection<String> theSummaryIds) {
+         return myStore.findSummaries(theCollName, theSummaryIds);
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> searchSummaries(ObservationSearch.Target theTarget, String theUserId, DateRangeParam theDate,
+            GarminSummary theAfter, int theCount) {
+         return myStore.searchSummaries(theTarget, theUserId, theDate, theAfter, theCount);
+      }
+
+      @Override
+      public ApiFuture<GarminSummary> findLatestUserMetric(String theUserId) {
+         return myStore.findLatestUserMetric(theUserId);
+      }
+
+      @Override
+      public ApiFuture<List<GarminSummary>> saveSummaries(String theCollName, List<GarminSummary> theSummaries) {
+         return myStore.saveSummaries(theCollName, theSummaries);
+      }
+   }
+}
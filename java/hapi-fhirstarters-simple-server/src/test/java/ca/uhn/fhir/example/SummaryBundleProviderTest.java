@@ -0,0 +1,63 @@
+package ca.uhn.fhir.example;
+
+import org.hl7.fhir.instance.model.api.IBaseResource;
+import org.hl7.fhir.r4.model.Observation;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SummaryBundleProviderTest {
+
+   // Observation ID -> start time of the summary it was mapped from
+   private final Map<String, Long> myStartTimes = new HashMap<String, Long>();
+
+   @Test
+   public void testPagesAreMergedByStartTime() throws Exception {
+      List<String> all = getIds(newProvider().getResources(0, 100));
+      assertEquals(6, all.size());
+      for (int i = 1; i < all.size(); i++) {
+         assertTrue(all.toString(), myStartTimes.get(all.get(i - 1)) <= myStartTimes.get(all.get(i)));
+      }
+
+      // paging through continues after each collection's last summary of the page before
+      SummaryBundleProvider provider = newProvider();
+      List<String> paged = new ArrayList<String>();
+      for (int from = 0; ; from += 2) {
+         List<String> page = getIds(provider.getResources(from, from + 2));
+         paged.addAll(page);
+         if (page.size() < 2) {
+            break;
+         }
+      }
+      assertEquals(all, paged);
+
+      // a page asked for without the ones before it
+      assertEquals(all.subList(3, 5), getIds(newProvider().getResources(3, 5)));
+   }
+
+   private SummaryBundleProvider newProvider() throws Exception {
+      return new SummaryBundleProvider(LocalSummaryStore.fromClasspath(), ObservationSearch.selectTargets(null, null), "g2", null,
+         (theCollectionName, theDocument) -> {
+            String id = theCollectionName + ":" + theDocument.getString("summaryId");
+            Long startTime = theDocument.getLong("startTimeInSeconds");
+            myStartTimes.put(id, (startTime != null) ? startTime : theDocument.getLong("summary.startTimeInSeconds"));
+            Observation retVal = new Observation();
+            retVal.setId(id);
+            return retVal;
+         }, null);
+   }
+
+   private static List<String> getIds(List<IBaseResource> theResources) {
+      List<String> retVal = new ArrayList<String>();
+      for (IBaseResource next : theResources) {
+         retVal.add(next.getIdElement().getIdPart());
+      }
+      return retVal;
+   }
+}
@@ -0,0 +1,84 @@
+package ca.uhn.fhir.example;
+
+import ca.uhn.fhir.context.FhirContext;
+import com.google.api.core.ApiFuture;
+import org.hl7.fhir.r4.model.IdType;
+import org.hl7.fhir.r4.model.Observation;
+import org.hl7.fhir.r4.model.Procedure;
+import org.hl7.fhir.r4.model.Resource;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class SummaryIngesterTest {
+
+   private final FhirContext myCtx = FhirContext.forR4();
+
+   /**
+    * The resources of the written summaries are cached with the versions the store gave the
+    * summaries, so the first read neither goes to the store nor sends an ETag that a later read of
+    * the stored summary would not match.
+    */
+   @Test
+   public void testWrittenResourcesAreCachedWithTheStoredVersion() throws Exception {
+      LocalSummaryStore fixtures = LocalSummaryStore.fromClasspath();
+      AtomicInteger reads = new AtomicInteger();
+      LocalSummaryStore store = new LocalSummaryStore(new HashMap<String, Map<String, GarminSummary>>()) {
+         @Override
+         public ApiFuture<GarminSummary> findSummary(String theCollName, String theSummaryId) {
+            reads.incrementAndGet();
+            return super.findSummary(theCollName, theSummaryId);
+         }
+      };
+      ObservationResourceProvider observations = new ObservationResourceProvider(store, ResourceCache.DEFAULT_TIME_TO_LIVE_SECONDS, myCtx);
+      ProcedureResourceProvider procedures = new ProcedureResourceProvider(store, myCtx);
+      SummaryIngester ingester = new SummaryIngester(store, myCtx, observations, procedures, new PatientResourceProvider(store),
+         new EncodedResponseCache(myCtx, 100, 60), 100);
+
+      Map<String, List<Map<String, Object>>> summaries = new LinkedHashMap<String, List<Map<String, Object>>>();
+      summaries.put("g_daily", Collections.singletonList(copy(fixtures, "g_daily", "x1a2b3c-6058d0c0-15180", "ingested-daily")));
+      summaries.put("g_moveIq", Collections.singletonList(copy(fixtures, "g_moveIq", "x1a2b3c-6058e3b1-moveiq", "ingested-moveiq")));
+      assertTrue(ingester.submit(summaries));
+      ingester.stop(10000);
+
+      IdType dailyId = new IdType("Observation", "g_daily:ingested-daily");
+      Observation daily = observations.read(dailyId, null);
+      IdType moveIqId = new IdType("Procedure", "g_moveIq:ingested-moveiq");
+      Procedure moveIq = procedures.read(moveIqId, null);
+      assertEquals(0, reads.get());
+
+      assertStoredVersion(store.findSummary("g_daily", "ingested-daily").get(), Observation.class, daily);
+      assertStoredVersion(store.findSummary("g_moveIq", "ingested-moveiq").get(), Procedure.class, moveIq);
+
+      // the same as what a read of the stored summary gives
+      observations.invalidate(dailyId);
+      assertTrue(daily.equalsDeep(observations.read(dailyId, null)));
+      procedures.invalidate(moveIqId);
+      assertTrue(moveIq.equalsDeep(procedures.read(moveIqId, null)));
+   }
+
+   // the cached resource has the version of the stored summary, and the stored JSON has none
+   private void assertStoredVersion(GarminSummary theStored, Class<? extends Resource> theType, Resource theCached) {
+      assertEquals(theStored.getVersion(), theCached.getMeta().getVersionId());
+      assertEquals(theStored.getVersion(), theCached.getIdElement().getVersionIdPart());
+      assertEquals(theStored.getUpdateTime(), theCached.getMeta().getLastUpdated());
+      Resource parsed = myCtx.newJsonParser().parseResource(theType, theStored.getString(GarminSummary.FHIR_JSON));
+      assertNull(parsed.getMeta().getVersionId());
+   }
+
+   private static Map<String, Object> copy(LocalSummaryStore theFixtures, String theCollName, String theSummaryId, String theNewSummaryId)
+         throws Exception {
+      Map<String, Object> retVal = new LinkedHashMap<String, Object>(theFixtures.findSummary(theCollName, theSummaryId).get().getData());
+      retVal.put("summaryId", theNewSummaryId);
+      return retVal;
+   }
+}
@@ -0,0 +1,67 @@
+package ca.uhn.fhir.example;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Puts a series of samples in the order of their time offsets, as read from a summary, with
+ * TimeSeries and with the LinkedList sort it replaced. Both end with the first offset and the
+ * values in order, which is what the vitals mappers pass on to the encoder.
+ *
+ * Run with: mvn -Pbenchmark clean test -DskipTests -Dbenchmark=TimeSeriesBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TimeSeriesBenchmark {
+
+   @Param({"1000", "10000", "100000"})
+   private int mySize;
+
+   private Map<String, Long> mySamples;
+
+   @Setup
+   public void setUp() {
+      Random random = new Random(mySize);
+      mySamples = new HashMap<String, Long>();
+      for (int i = 0; i < mySize; i++) {
+         mySamples.put(String.valueOf(i * 15), 45L + random.nextInt(120));
+      }
+   }
+
+   @Benchmark
+   public TimeSeries primitiveSort() {
+      return TimeSeries.ofLongs(mySamples);
+   }
+
+   @Benchmark
+   public long[] linkedListSort() {
+      Map<String, Long> sorted = TimeSeriesTest.oldSort(mySamples);
+      long[] retVal = new long[sorted.size() + 1];
+      int i = 1;
+      for (Map.Entry<String, Long> next : sorted.entrySet()) {
+         if (i == 1) {
+            retVal[0] = Long.parseLong(next.getKey());
+         }
+         retVal[i++] = next.getValue();
+      }
+      return retVal;
+   }
+}
@@ -0,0 +1,180 @@
+package ca.uhn.fhir.example;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Pins the SampledData data of the vitals mappers against the way they built it before the
+ * series were sorted with a primitive sort and encoded into one buffer: the map sorted as a
+ * LinkedList with a comparator that parses both keys, and the values appended with +=.
+ */
+public class TimeSeriesTest {
+
+   private static final int[] SIZES = {1, 2, 1000, 10000};
+
+   @Test
+   public void testLongSeriesWithoutGapsMatchOldEncoding() {
+      Random random = new Random(11);
+      for (int size : SIZES) {
+         Map<String, Long> samples = new HashMap<String, Long>();
+         for (int i = 0; i < size; i++) {
+            samples.put(String.valueOf(i * 15), 40L + random.nextInt(150));
+         }
+         assertEquals(oldEncoding(samples), TimeSeries.ofLongs(samples).encode(15));
+      }
+   }
+
+   @Test
+   public void testDoubleSeriesWithoutGapsMatchOldEncoding() {
+      Random random = new Random(12);
+      for (int size : SIZES) {
+         Map<String, Double> samples = new HashMap<String, Double>();
+         for (int i = 0; i < size; i++) {
+            samples.put(String.valueOf(i * 60), random.nextInt(400) / 10.0);
+         }
+         samples.put(String.valueOf(size * 60), 1.0E-4);
+         assertEquals(oldEncoding(samples), TimeSeries.ofDoubles(samples).encode(60));
+      }
+   }
+
+   @Test
+   public void testGapsAreMarkedAndEverythingElseMatchesOldEncoding() {
+      Random random = new Random(13);
+      for (int size : SIZES) {
+         Map<String, Long> samples = new HashMap<String, Long>();
+         List<String> expected = new ArrayList<String>();
+         for (int i = 0; i < size; i++) {
+            // the first sample is always there, since it sets the origin
+            if (i > 0 && random.nextInt(4) == 0) {
+               expected.add("E");
+               continue;
+            }
+            long value = random.nextInt(100);
+            samples.put(String.valueOf(i * 180), value);
+            expected.add(String.valueOf(value));
+         }
+         // a trailing gap is not written, the series ends with its last sample
+         while (expected.get(expected.size() - 1).equals("E")) {
+            expected.remove(expected.size() - 1);
+         }
+
+         String encoded = TimeSeries.ofLongs(samples).encode(180);
+         assertEquals(String.join(" ", expected), encoded);
+         assertEquals(oldEncoding(samples), encoded.replace(" E", ""));
+      }
+   }
+
+   @Test
+   public void testEncodingOfAGappedDay() {
+      Map<String, Long> heartRates = new HashMap<String, Long>();
+      heartRates.put("30", 74L);
+      heartRates.put("0", 72L);
+      heartRates.put("15", 75L);
+      heartRates.put("90", 80L);
+      assertEquals("72 75 74 E E E 80", TimeSeries.ofLongs(heartRates).encode(15));
+
+      Map<String, Double> respiration = new HashMap<String, Double>();
+      respiration.put("0", 14.0);
+      respiration.put("180", 16.0);
+      respiration.put("60", 15.5);
+      assertEquals("14.0 15.5 E 16.0", TimeSeries.ofDoubles(respiration).encode(60));
+   }
+
+   @Test
+   public void testOffsetsOffTheGridGoToTheNearestSlot() {
+      Map<String, Long> samples = new HashMap<String, Long>();
+      samples.put("0", 1L);
+      samples.put("16", 2L);
+      samples.put("29", 3L);
+      samples.put("61", 4L);
+      assertEquals("1 2 3 E 4", TimeSeries.ofLongs(samples).encode(15));
+
+      // a second sample in the same slot is left out
+      samples.put("14", 5L);
+      assertEquals("1 5 3 E 4", TimeSeries.ofLongs(samples).encode(15));
+   }
+
+   @Test
+   public void testNullSamplesAreLeftOut() {
+      Map<String, Long> samples = new HashMap<String, Long>();
+      samples.put("0", 1L);
+      samples.put("15", null);
+      samples.put("30", 3L);
+      TimeSeries series = TimeSeries.ofLongs(samples);
+      assertEquals(2, series.size());
+      assertEquals("1 E 3", series.encode(15));
+   }
+
+   @Test
+   public void testEmptySeries() {
+      assertEquals("", TimeSeries.ofLongs(null).encode(15));
+      assertEquals("", TimeSeries.ofDoubles(new HashMap<String, Double>()).encode(60));
+   }
+
+   @Test
+   public void testSortMatchesOldSort() {
+      Random random = new Random(14);
+      for (int size : new int[] {1000, 10000, 100000}) {
+         Map<String, Long> samples = new HashMap<String, Long>();
+         while (samples.size() < size) {
+            samples.put(String.valueOf(random.nextInt(Integer.MAX_VALUE)), random.nextLong());
+         }
+         List<Map.Entry<String, Long>> sorted = new ArrayList<Map.Entry<String, Long>>(oldSort(samples).entrySet());
+         TimeSeries series = TimeSeries.ofLongs(samples);
+         assertEquals(sorted.size(), series.size());
+         for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(Long.parseLong(sorted.get(i).getKey()), series.getOffset(i));
+         }
+      }
+   }
+
+   @Test
+   public void testSortOfOffsetsBeyond32Bits() {
+      long[] offsets = {5L + Integer.MAX_VALUE, -3, 0, Long.MAX_VALUE, -3};
+      int[] order = TimeSeries.sortedOrder(offsets, offsets.length);
+      assertEquals(1, order[0]);
+      assertEquals(4, order[1]);
+      assertEquals(2, order[2]);
+      assertEquals(0, order[3]);
+      assertEquals(3, order[4]);
+   }
+
+   @Test
+   public void testWidth() {
+      for (long next : new long[] {0, 9, 10, -1, -10, 99999, Long.MAX_VALUE, Long.MIN_VALUE}) {
+         assertEquals(Long.toString(next).length(), SampledDataEncoder.width(next));
+      }
+   }
+
+   // Helper.sortMapByKeyStringToLong and sortMapByKeyStringToDouble before the series type, also
+   // used by TimeSeriesBenchmark
+   static <T> Map<String, T> oldSort(Map<String, T> theMap) {
+      List<Map.Entry<String, T>> list = new LinkedList<Map.Entry<String, T>>(theMap.entrySet());
+      Collections.sort(list, (o1, o2) -> Long.compare(Long.parseLong(o1.getKey()), Long.parseLong(o2.getKey())));
+      Map<String, T> sortedMap = new LinkedHashMap<String, T>();
+      for (Map.Entry<String, T> entry : list) {
+         sortedMap.put(entry.getKey(), entry.getValue());
+      }
+      return sortedMap;
+   }
+
+   // The data string the vitals mappers built before SampledDataEncoder
+   private static String oldEncoding(Map<String, ?> theSamples) {
+      String timeSeriesData = "";
+      for (Map.Entry<String, ?> entry : oldSort(theSamples).entrySet()) {
+         timeSeriesData += entry.getValue();
+         timeSeriesData += " ";
+      }
+      return timeSeriesData.substring(0, timeSeriesData.length() - 1);
+   }
+}